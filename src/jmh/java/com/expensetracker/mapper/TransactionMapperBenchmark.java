@@ -0,0 +1,47 @@
+package com.expensetracker.mapper;
+
+import com.expensetracker.dto.transaction.TransactionResponse;
+import com.expensetracker.entity.Category;
+import com.expensetracker.entity.CategoryType;
+import com.expensetracker.entity.Transaction;
+import com.expensetracker.entity.User;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping on every list, search and export row
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMapperBenchmark {
+
+    private TransactionMapper mapper;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(TransactionMapper.class);
+        User user = new User("bench@example.com", "bench", "encoded-password", "Bench", "Mark");
+        Category category = new Category("Groceries", "Food and household", CategoryType.EXPENSE, user);
+        transaction = new Transaction(
+                new BigDecimal("42.50"),
+                LocalDate.of(2026, 10, 1),
+                "Weekly groceries",
+                user,
+                category
+        );
+    }
+
+    @Benchmark
+    public TransactionResponse toResponse() {
+        return mapper.toResponse(transaction);
+    }
+}
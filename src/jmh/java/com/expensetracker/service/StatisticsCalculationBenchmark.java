@@ -0,0 +1,80 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.transaction.statistics.CategoryBreakdownItem;
+import com.expensetracker.dto.transaction.statistics.CategoryBreakdownProjection;
+import com.expensetracker.dto.transaction.statistics.PeriodCategoryProjection;
+import com.expensetracker.dto.transaction.statistics.PeriodComparisonData;
+import com.expensetracker.entity.CategoryType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal arithmetic of the statistics responses: percentage and average chains
+ * in buildCategoryBreakdown and the period-over-period changes in calculateComparison
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsCalculationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Breakdown {
+
+        @Param({"5", "50"})
+        private int categoryCount;
+
+        private List<CategoryBreakdownProjection> projections;
+        private BigDecimal totalAmount;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            projections = new ArrayList<>(categoryCount);
+            totalAmount = BigDecimal.ZERO;
+            for (int i = 0; i < categoryCount; i++) {
+                BigDecimal amount = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+                projections.add(new PeriodCategoryProjection(
+                        (long) i,
+                        "Category " + i,
+                        i % 2 == 0 ? CategoryType.EXPENSE : CategoryType.INCOME,
+                        i % 2 == 0 ? amount : BigDecimal.ZERO,
+                        i % 2 == 0 ? BigDecimal.ZERO : amount,
+                        1L + random.nextInt(500),
+                        BigDecimal.ZERO,
+                        BigDecimal.ZERO
+                ));
+                totalAmount = totalAmount.add(amount);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Comparison {
+        private final BigDecimal currentExpenses = new BigDecimal("2944.86");
+        private final BigDecimal currentIncome = new BigDecimal("3438.39");
+        private final BigDecimal previousExpenses = new BigDecimal("6326.38");
+        private final BigDecimal previousIncome = new BigDecimal("6712.92");
+    }
+
+    @Benchmark
+    public List<CategoryBreakdownItem> buildCategoryBreakdown(Breakdown state) {
+        return TransactionStatisticsService.buildCategoryBreakdown(state.projections, state.totalAmount);
+    }
+
+    @Benchmark
+    public PeriodComparisonData calculateComparison(Comparison state) {
+        return TransactionStatisticsService.calculateComparison(
+                state.currentExpenses,
+                state.currentIncome,
+                state.previousExpenses,
+                state.previousIncome
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.expensetracker.service.util;
+
+import com.expensetracker.dto.transaction.statistics.TrendGrouping;
+import com.expensetracker.service.util.DateRangeCalculator.DateRange;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trend bucket generation for long ranges (ten years, mid-month and mid-week boundaries)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateRangeCalculatorBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2016, 3, 17);
+    private static final LocalDate END = LocalDate.of(2026, 10, 16);
+
+    @Param({"DAY", "WEEK", "MONTH"})
+    private TrendGrouping groupBy;
+
+    private final DateRangeCalculator calculator = new DateRangeCalculator();
+
+    @Benchmark
+    public List<DateRange> generateBuckets() {
+        return calculator.generateBuckets(START, END, groupBy);
+    }
+}
@@ -0,0 +1,108 @@
+package com.expensetracker.specification;
+
+import com.expensetracker.dto.common.SearchCriteria;
+import com.expensetracker.dto.common.SearchOperation;
+import com.expensetracker.entity.*;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria predicate construction for search filters, including the string-to-type
+ * conversion in castValue
+ * Hibernate is bootstrapped offline (no JDBC access), since building criteria needs only the metamodel
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericSpecificationBenchmark {
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder builder;
+
+    private final GenericSpecification<Transaction> amountGreaterThan = new GenericSpecification<>(
+            new SearchCriteria("amount", SearchOperation.GREATER_THAN, "100.00", null));
+    private final GenericSpecification<Transaction> dateBetween = new GenericSpecification<>(
+            new SearchCriteria("date", SearchOperation.BETWEEN, "2026-01-01", "2026-03-31"));
+    private final GenericSpecification<Transaction> categoryIn = new GenericSpecification<>(
+            new SearchCriteria("categoryId", SearchOperation.IN, "1, 2, 3, 4, 5", null));
+    private final GenericSpecification<Transaction> descriptionLike = new GenericSpecification<>(
+            new SearchCriteria("description", SearchOperation.LIKE, "Groceries", null));
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Wallet.class)
+                .addAnnotatedClass(Currency.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Transaction.class)
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+                .setProperty("hibernate.temp.use_jdbc_metadata_defaults", "false")
+                .setProperty("jakarta.persistence.validation.mode", "none")
+                .buildSessionFactory();
+        builder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Object castLong() {
+        return GenericSpecification.castValue("12345", Long.class);
+    }
+
+    @Benchmark
+    public Object castBigDecimal() {
+        return GenericSpecification.castValue("1234.56", BigDecimal.class);
+    }
+
+    @Benchmark
+    public Object castLocalDate() {
+        return GenericSpecification.castValue("2026-10-16", LocalDate.class);
+    }
+
+    @Benchmark
+    public Object castEnum() {
+        return GenericSpecification.castValue("EXPENSE", CategoryType.class);
+    }
+
+    @Benchmark
+    public Predicate amountGreaterThan() {
+        return toPredicate(amountGreaterThan);
+    }
+
+    @Benchmark
+    public Predicate dateBetween() {
+        return toPredicate(dateBetween);
+    }
+
+    @Benchmark
+    public Predicate categoryIn() {
+        return toPredicate(categoryIn);
+    }
+
+    @Benchmark
+    public Predicate descriptionLike() {
+        return toPredicate(descriptionLike);
+    }
+
+    private Predicate toPredicate(GenericSpecification<Transaction> specification) {
+        CriteriaQuery<Transaction> query = builder.createQuery(Transaction.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        return specification.toPredicate(root, query, builder);
+    }
+}
@@ -0,0 +1,118 @@
+package com.expensetracker.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps every latency sample per operation so percentiles are exact
+ * rather than bucketed; a few million longs fit comfortably in memory
+ */
+public class LatencyRecorder {
+
+    public static final String ALL_OPERATIONS = "ALL";
+
+    private final ConcurrentHashMap<String, Samples> operations = new ConcurrentHashMap<>();
+
+    public void record(String operation, long elapsedNanos, boolean success) {
+        operations.computeIfAbsent(operation, name -> new Samples()).add(elapsedNanos, success);
+    }
+
+    /**
+     * Per-operation summaries sorted by name, followed by the total over all operations
+     */
+    public List<OperationSummary> summarize(double elapsedSeconds) {
+        List<OperationSummary> summaries = new ArrayList<>();
+        Samples all = new Samples();
+        operations.forEach((operation, samples) -> {
+            summaries.add(samples.summarize(operation, elapsedSeconds));
+            all.addAll(samples);
+        });
+        summaries.sort(Comparator.comparing(OperationSummary::operation));
+        summaries.add(all.summarize(ALL_OPERATIONS, elapsedSeconds));
+        return summaries;
+    }
+
+    public record OperationSummary(
+            String operation,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p95Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs
+    ) {
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized void addAll(Samples other) {
+            synchronized (other) {
+                if (size + other.size > latencies.length) {
+                    latencies = Arrays.copyOf(latencies, Math.max(size + other.size, latencies.length * 2));
+                }
+                System.arraycopy(other.latencies, 0, latencies, size, other.size);
+                size += other.size;
+                errors += other.errors;
+            }
+        }
+
+        synchronized OperationSummary summarize(String operation, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+            return new OperationSummary(
+                    operation,
+                    size,
+                    errors,
+                    round(size / elapsedSeconds),
+                    toMillis(mean),
+                    toMillis(percentile(sorted, 50)),
+                    toMillis(percentile(sorted, 90)),
+                    toMillis(percentile(sorted, 95)),
+                    toMillis(percentile(sorted, 99)),
+                    toMillis(percentile(sorted, 99.9)),
+                    toMillis(size == 0 ? 0 : sorted[size - 1])
+            );
+        }
+
+        /**
+         * Nearest-rank percentile of sorted samples
+         */
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return sorted[Math.max(rank - 1, 0)];
+        }
+
+        private static double toMillis(double nanos) {
+            return round(nanos / 1_000_000);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.expensetracker.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Load-test entry point
+ * <pre>
+ *   generate  seed synthetic users, categories and transactions straight into PostgreSQL
+ *   run       drive the running API with the scripted workload mix and write the report
+ * </pre>
+ * Options are passed as --name=value; see SyntheticDataGenerator and WorkloadRunner
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            System.exit(1);
+        }
+
+        LoadTestOptions options = LoadTestOptions.parse(Arrays.copyOfRange(args, 1, args.length));
+
+        switch (args[0]) {
+            case "generate" -> new SyntheticDataGenerator(options).generate();
+            case "run" -> new WorkloadRunner(options).run();
+            default -> {
+                usage();
+                System.exit(1);
+            }
+        }
+    }
+
+    private static void usage() {
+        System.err.println("""
+                Usage: LoadTest <generate|run> [--name=value ...]
+
+                generate  --users=100 --years=2 --daily-expenses=2.5 --prefix=loadtest --seed=42 --reset
+                          --jdbc-url=jdbc:postgresql://localhost:5432/expense_tracker_db --db-user=postgres --db-password=...
+                run       --base-url=http://localhost:8080/api/v1 --users=100 --prefix=loadtest
+                          --concurrency=32 --warmup=10 --duration=60 --mix=dashboard:60,search:30,write:10
+                          --report=target/loadtest-report.json""");
+    }
+}
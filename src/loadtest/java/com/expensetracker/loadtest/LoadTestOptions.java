@@ -0,0 +1,72 @@
+package com.expensetracker.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options in --name=value form; a bare --name means true
+ */
+public final class LoadTestOptions {
+
+    /**
+     * Password shared by every generated user
+     */
+    public static final String DEFAULT_PASSWORD = "LoadTest123!";
+
+    private final Map<String, String> values;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return new LoadTestOptions(values);
+    }
+
+    public String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    /**
+     * Option value, falling back to an environment variable and then the default
+     */
+    public String get(String name, String environmentVariable, String defaultValue) {
+        String value = values.get(name);
+        if (value != null) {
+            return value;
+        }
+        String environmentValue = System.getenv(environmentVariable);
+        return environmentValue != null && !environmentValue.isBlank() ? environmentValue : defaultValue;
+    }
+
+    public int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    public long getLong(String name, long defaultValue) {
+        String value = values.get(name);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        String value = values.get(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    public boolean getFlag(String name) {
+        return Boolean.parseBoolean(values.getOrDefault(name, "false"));
+    }
+}
@@ -0,0 +1,505 @@
+package com.expensetracker.loadtest;
+
+import com.expensetracker.entity.CategoryType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds users with wallets, categories and several years of transactions
+ * straight into PostgreSQL using COPY, then rebuilds their daily rollups
+ * <p>
+ * Each user gets a monthly salary, rent and utilities plus a Poisson-distributed
+ * number of day-to-day expenses with log-normal amounts, so statistics, trends
+ * and search see a realistic category mix. Generation is deterministic per --seed.
+ * <p>
+ * Ids are taken from the same sequences the application uses: every nextval
+ * reserves a whole pooled block, so generated rows never collide with ids
+ * handed out by a running application instance.
+ */
+public class SyntheticDataGenerator {
+
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("0.50");
+
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    private static final int PROGRESS_INTERVAL = 100;
+
+    /**
+     * Day-to-day expense categories: name, share of daily spending, relative
+     * amount and sample descriptions; the first three are given to every user
+     */
+    private static final List<CategoryProfile> DAILY_EXPENSES = List.of(
+            new CategoryProfile("Groceries", 0.35, 1.0, "Supermarket", "Farmers market", "Corner shop"),
+            new CategoryProfile("Transport", 0.20, 0.5, "Metro ticket", "Taxi", "Fuel"),
+            new CategoryProfile("Dining", 0.15, 0.8, "Lunch", "Coffee", "Dinner out"),
+            new CategoryProfile("Entertainment", 0.10, 1.2, "Cinema", "Concert", "Streaming"),
+            new CategoryProfile("Health", 0.08, 1.5, "Pharmacy", "Doctor visit"),
+            new CategoryProfile("Shopping", 0.12, 2.0, "Clothes", "Electronics", "Home goods")
+    );
+
+    private static final int ALWAYS_PRESENT_DAILY = 3;
+
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final String prefix;
+    private final int users;
+    private final int years;
+    private final double dailyExpenses;
+    private final long seed;
+    private final boolean reset;
+
+    public SyntheticDataGenerator(LoadTestOptions options) {
+        this.jdbcUrl = options.get("jdbc-url", "DATABASE_URL", "jdbc:postgresql://localhost:5432/expense_tracker_db");
+        this.dbUser = options.get("db-user", "DATABASE_USERNAME", "postgres");
+        this.dbPassword = options.get("db-password", "DATABASE_PASSWORD", "postgres");
+        this.prefix = options.get("prefix", "loadtest");
+        this.users = options.getInt("users", 100);
+        this.years = options.getInt("years", 2);
+        this.dailyExpenses = options.getDouble("daily-expenses", 2.5);
+        this.seed = options.getLong("seed", 42);
+        this.reset = options.getFlag("reset");
+    }
+
+    public void generate() throws SQLException {
+        long started = System.nanoTime();
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusYears(years).plusDays(1);
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword);
+             Connection sequenceConnection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+            connection.setAutoCommit(false);
+            sequenceConnection.setAutoCommit(true);
+
+            prepare(connection);
+            ensurePartitions(connection, startDate.getYear(), endDate.getYear());
+            connection.commit();
+
+            List<Long> currencyIds = queryLongs(connection, "SELECT id FROM currencies ORDER BY id");
+            if (currencyIds.isEmpty()) {
+                throw new IllegalStateException("No currencies found; run the application once to apply migrations");
+            }
+
+            IdAllocator userIds = new IdAllocator(sequenceConnection, "users_id_seq");
+            IdAllocator categoryIds = new IdAllocator(sequenceConnection, "categories_id_seq");
+            IdAllocator transactionIds = new IdAllocator(sequenceConnection, "transactions_id_seq");
+            IdAllocator walletIds = new IdAllocator(sequenceConnection, "wallets_id_seq");
+
+            List<SyntheticUser> syntheticUsers = new ArrayList<>(users);
+            for (int index = 1; index <= users; index++) {
+                syntheticUsers.add(new SyntheticUser(index, userIds.next(), new Random(seed + index)));
+            }
+
+            String passwordHash = new BCryptPasswordEncoder().encode(LoadTestOptions.DEFAULT_PASSWORD);
+            LocalDateTime createdAt = startDate.atStartOfDay();
+
+            copy(connection, "COPY users (id, email, username, password, first_name, last_name, enabled, created_at, updated_at) FROM STDIN",
+                    writer -> {
+                        for (SyntheticUser user : syntheticUsers) {
+                            writer.row(user.id, username(user.index) + "@loadtest.local", username(user.index), passwordHash,
+                                    "Load", "User " + user.index, true, createdAt, createdAt);
+                        }
+                    });
+
+            copy(connection, "COPY categories (id, name, description, user_id, type, created_at, updated_at) FROM STDIN",
+                    writer -> {
+                        for (SyntheticUser user : syntheticUsers) {
+                            user.assignCategories(categoryIds);
+                            for (SyntheticCategory category : user.categories) {
+                                writer.row(category.id, category.name, null, user.id, category.type, createdAt, createdAt);
+                            }
+                        }
+                    });
+
+            long[] transactionCount = new long[1];
+            copy(connection, "COPY transactions (id, amount, date, description, category_id, user_id, created_at, updated_at) FROM STDIN",
+                    writer -> {
+                        for (SyntheticUser user : syntheticUsers) {
+                            for (SyntheticTransaction transaction : user.generateTransactions(startDate, endDate)) {
+                                LocalDateTime timestamp = transaction.date.atTime(LocalTime.ofSecondOfDay(user.random.nextInt(86_400)));
+                                writer.row(transactionIds.next(), transaction.amount, transaction.date, transaction.description,
+                                        transaction.category.id, user.id, timestamp, timestamp);
+                                transactionCount[0]++;
+                            }
+                            if (user.index % PROGRESS_INTERVAL == 0) {
+                                System.out.printf("  %d/%d users, %d transactions%n", user.index, users, transactionCount[0]);
+                            }
+                        }
+                    });
+
+            copy(connection, "COPY wallets (id, amount, user_id, currency_id, created_at, updated_at) FROM STDIN",
+                    writer -> {
+                        for (SyntheticUser user : syntheticUsers) {
+                            Long currencyId = currencyIds.get(user.random.nextInt(Math.min(currencyIds.size(), 5)));
+                            writer.row(walletIds.next(), user.balance, user.id, currencyId, createdAt, createdAt);
+                        }
+                    });
+
+            connection.commit();
+            System.out.printf("Copied %d users and %d transactions (%s to %s)%n", users, transactionCount[0], startDate, endDate);
+
+            int rollups = rebuildRollups(connection);
+            connection.commit();
+            System.out.printf("Built %d daily rollups%n", rollups);
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE users, categories, wallets, transactions, transaction_daily_rollups");
+            }
+
+            double seconds = (System.nanoTime() - started) / 1e9;
+            System.out.printf("Done in %.1f s (%.0f transactions/s). Log in as %s ... %s with password %s%n",
+                    seconds, transactionCount[0] / seconds, username(1), username(users), LoadTestOptions.DEFAULT_PASSWORD);
+        }
+    }
+
+    private String username(int index) {
+        return prefix + "_" + index;
+    }
+
+    /**
+     * Refuse to mix with an earlier run of the same prefix unless --reset is given
+     */
+    private void prepare(Connection connection) throws SQLException {
+        List<Long> existing = queryLongs(connection,
+                "SELECT id FROM users WHERE username LIKE '" + prefix.replace("'", "''") + "\\_%'");
+        if (existing.isEmpty()) {
+            return;
+        }
+        if (!reset) {
+            throw new IllegalStateException(existing.size() + " users with prefix '" + prefix
+                    + "' already exist; pass --reset to replace them or choose another --prefix");
+        }
+
+        // Transactions restrict category deletes, so remove them before the cascading user delete
+        try (PreparedStatement transactions = connection.prepareStatement("DELETE FROM transactions WHERE user_id = ANY (?)");
+             PreparedStatement usersDelete = connection.prepareStatement("DELETE FROM users WHERE id = ANY (?)")) {
+            Array ids = connection.createArrayOf("bigint", existing.toArray());
+            transactions.setArray(1, ids);
+            transactions.executeUpdate();
+            usersDelete.setArray(1, ids);
+            usersDelete.executeUpdate();
+        }
+        System.out.printf("Removed %d existing users with prefix '%s'%n", existing.size(), prefix);
+    }
+
+    private void ensurePartitions(Connection connection, int fromYear, int toYear) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT ensure_transactions_partition(?)")) {
+            for (int year = fromYear; year <= toYear; year++) {
+                statement.setInt(1, year);
+                statement.execute();
+            }
+        }
+    }
+
+    private int rebuildRollups(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO transaction_daily_rollups (user_id, date, category_id, expense_amount, income_amount, transaction_count)
+                SELECT
+                    t.user_id,
+                    t.date,
+                    t.category_id,
+                    COALESCE(SUM(CASE WHEN c.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0),
+                    COALESCE(SUM(CASE WHEN c.type = 'INCOME' THEN t.amount ELSE 0 END), 0),
+                    COUNT(*)
+                FROM transactions t
+                JOIN categories c ON t.category_id = c.id
+                JOIN users u ON t.user_id = u.id
+                WHERE u.username LIKE ? || '\\_%'
+                GROUP BY t.user_id, t.date, t.category_id
+                """)) {
+            statement.setString(1, prefix);
+            return statement.executeUpdate();
+        }
+    }
+
+    private static List<Long> queryLongs(Connection connection, String sql) throws SQLException {
+        List<Long> values = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getLong(1));
+            }
+        }
+        return values;
+    }
+
+    private static void copy(Connection connection, String sql, CopyBody body) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        CopyWriter writer = new CopyWriter(copyIn);
+        try {
+            body.write(writer);
+            writer.flush();
+            copyIn.endCopy();
+        } catch (SQLException | RuntimeException e) {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface CopyBody {
+        void write(CopyWriter writer) throws SQLException;
+    }
+
+    /**
+     * Buffers rows in COPY text format and streams them in large chunks
+     */
+    private static final class CopyWriter {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 4096);
+
+        private CopyWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                appendValue(values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void appendValue(Object value) {
+            if (value == null) {
+                buffer.append("\\N");
+                return;
+            }
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> buffer.append("\\\\");
+                    case '\t' -> buffer.append("\\t");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    default -> buffer.append(c);
+                }
+            }
+        }
+
+        void flush() throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Hands out ids from pooled sequence blocks: nextval returns the top of a
+     * block of increment_by ids that no other caller receives
+     */
+    private static final class IdAllocator {
+
+        private static final int BLOCKS_PER_FETCH = 1000;
+
+        private final Connection connection;
+        private final String sequence;
+        private final long increment;
+        private final List<Long> blockTops = new ArrayList<>();
+        private int blockIndex;
+        private long nextId;
+        private long blockEnd;
+
+        private IdAllocator(Connection connection, String sequence) throws SQLException {
+            this.connection = connection;
+            this.sequence = sequence;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT increment_by FROM pg_sequences WHERE sequencename = ?")) {
+                statement.setString(1, sequence);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("Sequence not found: " + sequence);
+                    }
+                    this.increment = resultSet.getLong(1);
+                }
+            }
+        }
+
+        long next() throws SQLException {
+            if (nextId == blockEnd) {
+                if (blockIndex == blockTops.size()) {
+                    fetchBlocks();
+                }
+                blockEnd = blockTops.get(blockIndex++) + 1;
+                nextId = blockEnd - increment;
+            }
+            return nextId++;
+        }
+
+        private void fetchBlocks() throws SQLException {
+            blockTops.clear();
+            blockIndex = 0;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT nextval(?::regclass) FROM generate_series(1, ?)")) {
+                statement.setString(1, sequence);
+                statement.setInt(2, BLOCKS_PER_FETCH);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        blockTops.add(resultSet.getLong(1));
+                    }
+                }
+            }
+        }
+    }
+
+    private record CategoryProfile(String name, double share, double relativeAmount, String... descriptions) {
+    }
+
+    private record SyntheticCategory(long id, String name, CategoryType type, CategoryProfile profile) {
+    }
+
+    private record SyntheticTransaction(SyntheticCategory category, LocalDate date, BigDecimal amount, String description) {
+    }
+
+    private final class SyntheticUser {
+
+        private final int index;
+        private final long id;
+        private final Random random;
+        private final BigDecimal salary;
+        private final List<SyntheticCategory> categories = new ArrayList<>();
+        private final List<SyntheticCategory> dailyCategories = new ArrayList<>();
+        private SyntheticCategory salaryCategory;
+        private SyntheticCategory freelanceCategory;
+        private SyntheticCategory rentCategory;
+        private SyntheticCategory utilitiesCategory;
+        private BigDecimal balance = BigDecimal.ZERO;
+
+        private SyntheticUser(int index, long id, Random random) {
+            this.index = index;
+            this.id = id;
+            this.random = random;
+            this.salary = BigDecimal.valueOf(2_500 + random.nextInt(66) * 100L);
+        }
+
+        private void assignCategories(IdAllocator ids) throws SQLException {
+            salaryCategory = add(ids, "Salary", CategoryType.INCOME, null);
+            if (random.nextDouble() < 0.4) {
+                freelanceCategory = add(ids, "Freelance", CategoryType.INCOME, null);
+            }
+            rentCategory = add(ids, "Rent", CategoryType.EXPENSE, null);
+            utilitiesCategory = add(ids, "Utilities", CategoryType.EXPENSE, null);
+            for (int i = 0; i < DAILY_EXPENSES.size(); i++) {
+                if (i < ALWAYS_PRESENT_DAILY || random.nextDouble() < 0.7) {
+                    CategoryProfile profile = DAILY_EXPENSES.get(i);
+                    dailyCategories.add(add(ids, profile.name(), CategoryType.EXPENSE, profile));
+                }
+            }
+        }
+
+        private SyntheticCategory add(IdAllocator ids, String name, CategoryType type, CategoryProfile profile) throws SQLException {
+            SyntheticCategory category = new SyntheticCategory(ids.next(), name, type, profile);
+            categories.add(category);
+            return category;
+        }
+
+        /**
+         * Transactions in date order; an opening balance keeps the wallet non-negative
+         */
+        private List<SyntheticTransaction> generateTransactions(LocalDate startDate, LocalDate endDate) {
+            List<SyntheticTransaction> transactions = new ArrayList<>();
+            double rent = salary.doubleValue() * (0.25 + random.nextDouble() * 0.1);
+            double dailyBudget = salary.doubleValue() * 0.35 / 30;
+            double totalShare = dailyCategories.stream().mapToDouble(category -> category.profile().share()).sum();
+
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                if (date.getDayOfMonth() == 1) {
+                    transactions.add(new SyntheticTransaction(rentCategory, date, amount(rent, 0.0), "Monthly rent"));
+                }
+                if (date.getDayOfMonth() == 5) {
+                    transactions.add(new SyntheticTransaction(utilitiesCategory, date,
+                            amount(salary.doubleValue() * 0.04, 0.3), "Electricity and water"));
+                }
+                if (date.getDayOfMonth() == 25) {
+                    transactions.add(new SyntheticTransaction(salaryCategory, date, salary, "Monthly salary"));
+                }
+                if (freelanceCategory != null && random.nextDouble() < 0.05) {
+                    transactions.add(new SyntheticTransaction(freelanceCategory, date,
+                            amount(salary.doubleValue() * 0.1, 0.5), "Client project"));
+                }
+
+                int count = poisson(dailyExpenses);
+                for (int i = 0; i < count; i++) {
+                    SyntheticCategory category = pickDaily(totalShare);
+                    CategoryProfile profile = category.profile();
+                    double median = dailyBudget / dailyExpenses * profile.relativeAmount();
+                    String description = random.nextDouble() < 0.2
+                            ? null
+                            : profile.descriptions()[random.nextInt(profile.descriptions().length)];
+                    transactions.add(new SyntheticTransaction(category, date, amount(median, 0.6), description));
+                }
+            }
+
+            BigDecimal total = BigDecimal.ZERO;
+            BigDecimal lowest = BigDecimal.ZERO;
+            for (SyntheticTransaction transaction : transactions) {
+                total = transaction.category().type() == CategoryType.INCOME
+                        ? total.add(transaction.amount())
+                        : total.subtract(transaction.amount());
+                lowest = lowest.min(total);
+            }
+            if (lowest.signum() < 0) {
+                BigDecimal opening = lowest.negate().add(salary);
+                transactions.addFirst(new SyntheticTransaction(salaryCategory, startDate, opening, "Opening balance"));
+                total = total.add(opening);
+            }
+            balance = total;
+            return transactions;
+        }
+
+        private SyntheticCategory pickDaily(double totalShare) {
+            double target = random.nextDouble() * totalShare;
+            for (SyntheticCategory category : dailyCategories) {
+                target -= category.profile().share();
+                if (target < 0) {
+                    return category;
+                }
+            }
+            return dailyCategories.getLast();
+        }
+
+        /**
+         * Log-normal amount around the median; spread is the sigma of the underlying normal
+         */
+        private BigDecimal amount(double median, double spread) {
+            double value = median * Math.exp(spread * random.nextGaussian());
+            return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).max(MIN_AMOUNT);
+        }
+
+        private int poisson(double mean) {
+            double limit = Math.exp(-mean);
+            double product = random.nextDouble();
+            int count = 0;
+            while (product > limit) {
+                product *= random.nextDouble();
+                count++;
+            }
+            return count;
+        }
+    }
+}
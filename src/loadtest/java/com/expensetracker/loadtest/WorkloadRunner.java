@@ -0,0 +1,382 @@
+package com.expensetracker.loadtest;
+
+import com.expensetracker.loadtest.LatencyRecorder.OperationSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives the running API with virtual users logged in as generated users
+ * <p>
+ * Each virtual user loops over weighted scenarios until the duration ends:
+ * <ul>
+ *   <li>dashboard: overview, summary with comparison, category breakdown and trends</li>
+ *   <li>search: an offset first page followed by keyset pages through the cursor</li>
+ *   <li>write: a burst of expense creates followed by deleting them again</li>
+ * </ul>
+ * Samples taken during the warmup are discarded. The report lists request
+ * counts, errors, throughput and latency percentiles per endpoint.
+ */
+public class WorkloadRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int SEARCH_PAGE_SIZE = 20;
+
+    private static final int KEYSET_PAGES = 4;
+
+    private final String baseUrl;
+    private final String prefix;
+    private final int users;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final String mix;
+    private final Path reportPath;
+    private final long thinkTimeMillis;
+    private final Map<Scenario, Integer> weights;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final HttpClient httpClient;
+
+    private volatile long measureFrom;
+
+    public WorkloadRunner(LoadTestOptions options) {
+        this.baseUrl = options.get("base-url", "http://localhost:8080/api/v1");
+        this.prefix = options.get("prefix", "loadtest");
+        this.users = options.getInt("users", 100);
+        this.concurrency = options.getInt("concurrency", 32);
+        this.warmupSeconds = options.getInt("warmup", 10);
+        this.durationSeconds = options.getInt("duration", 60);
+        this.mix = options.get("mix", "dashboard:60,search:30,write:10");
+        this.reportPath = Path.of(options.get("report", "target/loadtest-report.json"));
+        this.thinkTimeMillis = options.getLong("think-time", 0);
+        this.weights = Scenario.parseMix(mix);
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public void run() throws Exception {
+        System.out.printf("Logging in %d virtual users against %s%n", concurrency, baseUrl);
+        List<Session> sessions = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            sessions.add(login(prefix + "_" + (i % users + 1)));
+        }
+
+        long started = System.nanoTime();
+        measureFrom = started + Duration.ofSeconds(warmupSeconds).toNanos();
+        long deadline = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+        System.out.printf("Warming up for %d s, measuring for %d s (mix %s)%n", warmupSeconds, durationSeconds, mix);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (Session session : sessions) {
+                workers.add(executor.submit(() -> {
+                    loop(session, deadline);
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        double measuredSeconds = (System.nanoTime() - measureFrom) / 1e9;
+        LoadTestReport report = new LoadTestReport(
+                Instant.now().toString(),
+                baseUrl,
+                concurrency,
+                users,
+                weights,
+                warmupSeconds,
+                Math.round(measuredSeconds * 100) / 100.0,
+                recorder.summarize(measuredSeconds)
+        );
+        print(report);
+        sessions.stream()
+                .map(session -> session.lastError)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(error -> System.out.println("Last error: " + error));
+        write(report);
+    }
+
+    private void loop(Session session, long deadline) throws InterruptedException {
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = Scenario.pick(weights, ThreadLocalRandom.current());
+            switch (scenario) {
+                case DASHBOARD -> dashboard(session);
+                case SEARCH -> search(session);
+                case WRITE -> writeBurst(session);
+            }
+            if (thinkTimeMillis > 0) {
+                Thread.sleep(thinkTimeMillis);
+            }
+        }
+    }
+
+    // ========================================================================
+    // Scenarios
+    // ========================================================================
+
+    private void dashboard(Session session) {
+        LocalDate today = LocalDate.now();
+        boolean monthly = ThreadLocalRandom.current().nextInt(4) == 0;
+        String trends = monthly
+                ? "/transactions/statistics/trends?groupBy=MONTH&startDate=" + today.minusYears(1) + "&endDate=" + today
+                : "/transactions/statistics/trends?groupBy=DAY&startDate=" + today.minusDays(29) + "&endDate=" + today;
+
+        get(session, "GET /statistics/overview", "/transactions/statistics/overview");
+        get(session, "GET /statistics/summary", "/transactions/statistics/summary?period=MONTH&compareWithPrevious=true");
+        get(session, "GET /statistics/categories", "/transactions/statistics/categories?period=MONTH");
+        get(session, monthly ? "GET /statistics/trends (month)" : "GET /statistics/trends (day)", trends);
+    }
+
+    private void search(Session session) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(ThreadLocalRandom.current().nextInt(30, 366));
+        List<Map<String, String>> criteria = List.of(Map.of(
+                "field", "date",
+                "operation", "BETWEEN",
+                "value", from.toString(),
+                "valueTo", today.toString()
+        ));
+
+        Map<String, Object> offsetPage = new LinkedHashMap<>();
+        offsetPage.put("criteria", criteria);
+        offsetPage.put("page", 0);
+        offsetPage.put("size", SEARCH_PAGE_SIZE);
+        offsetPage.put("sortBy", "date");
+        offsetPage.put("sortOrder", "DESC");
+        post(session, "POST /transactions/search (offset)", "/transactions/search", offsetPage);
+
+        String cursor = null;
+        for (int page = 0; page < KEYSET_PAGES; page++) {
+            Map<String, Object> keysetPage = new LinkedHashMap<>();
+            keysetPage.put("criteria", criteria);
+            keysetPage.put("size", SEARCH_PAGE_SIZE);
+            keysetPage.put("sortBy", "date");
+            keysetPage.put("sortOrder", "DESC");
+            keysetPage.put("paginationMode", "KEYSET");
+            keysetPage.put("includeSummary", false);
+            keysetPage.put("cursor", cursor);
+
+            JsonNode response = post(session, "POST /transactions/search (keyset)", "/transactions/search", keysetPage);
+            JsonNode next = response == null ? null : response.path("transactions").path("nextCursor");
+            if (next == null || !next.isTextual()) {
+                break;
+            }
+            cursor = next.asText();
+        }
+    }
+
+    private void writeBurst(Session session) {
+        if (session.expenseCategoryIds.isEmpty()) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int burst = random.nextInt(3, 7);
+        List<Long> created = new ArrayList<>(burst);
+
+        for (int i = 0; i < burst; i++) {
+            Map<String, Object> transaction = new LinkedHashMap<>();
+            transaction.put("amount", random.nextInt(100, 2_000) / 100.0);
+            transaction.put("date", LocalDate.now().minusDays(random.nextInt(30)).toString());
+            transaction.put("description", "Load test");
+            transaction.put("categoryId", session.expenseCategoryIds.get(random.nextInt(session.expenseCategoryIds.size())));
+
+            JsonNode response = post(session, "POST /transactions", "/transactions", transaction);
+            if (response != null && response.hasNonNull("id")) {
+                created.add(response.get("id").asLong());
+            }
+        }
+        for (Long id : created) {
+            send(session, "DELETE /transactions/{id}", request(session, "/transactions/" + id).DELETE().build());
+        }
+    }
+
+    // ========================================================================
+    // HTTP
+    // ========================================================================
+
+    private Session login(String username) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", LoadTestOptions.DEFAULT_PASSWORD));
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + username + " (HTTP " + response.statusCode()
+                    + "); generate the users first with the same --prefix and --users");
+        }
+        Session session = new Session(objectMapper.readTree(response.body()).path("accessToken").asText());
+
+        Map<String, Object> categorySearch = Map.of(
+                "criteria", List.of(Map.of("field", "type", "operation", "EQUALS", "value", "EXPENSE")),
+                "size", 100
+        );
+        HttpResponse<String> categories = httpClient.send(request(session, "/categories/search")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(categorySearch)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        for (JsonNode category : objectMapper.readTree(categories.body()).path("content")) {
+            session.expenseCategoryIds.add(category.get("id").asLong());
+        }
+        return session;
+    }
+
+    private void get(Session session, String operation, String path) {
+        send(session, operation, request(session, path).GET().build());
+    }
+
+    private JsonNode post(Session session, String operation, String path, Object body) {
+        try {
+            return send(session, operation, request(session, path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(Session session, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + session.token);
+    }
+
+    /**
+     * Send and record latency; returns the parsed body of a successful response, otherwise null
+     */
+    private JsonNode send(Session session, String operation, HttpRequest request) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            record(operation, started, success);
+            if (success && !response.body().isEmpty()) {
+                return objectMapper.readTree(response.body());
+            }
+            if (!success) {
+                session.lastError = operation + " -> HTTP " + response.statusCode();
+            }
+        } catch (IOException e) {
+            record(operation, started, false);
+            session.lastError = operation + " -> " + e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private void record(String operation, long started, boolean success) {
+        if (started >= measureFrom) {
+            recorder.record(operation, System.nanoTime() - started, success);
+        }
+    }
+
+    // ========================================================================
+    // Report
+    // ========================================================================
+
+    private void print(LoadTestReport report) {
+        System.out.printf("%n%-36s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Operation", "Requests", "Errors", "Req/s", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "Max ms");
+        for (OperationSummary summary : report.operations()) {
+            System.out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    summary.operation(), summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                    summary.meanMs(), summary.p50Ms(), summary.p95Ms(), summary.p99Ms(), summary.p999Ms(), summary.maxMs());
+        }
+    }
+
+    private void write(LoadTestReport report) throws IOException {
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+        System.out.printf("%nReport written to %s%n", reportPath.toAbsolutePath());
+    }
+
+    public record LoadTestReport(
+            String finishedAt,
+            String baseUrl,
+            int concurrency,
+            int users,
+            Map<Scenario, Integer> mix,
+            int warmupSeconds,
+            double measuredSeconds,
+            List<OperationSummary> operations
+    ) {
+    }
+
+    // ========================================================================
+    // Scenario mix
+    // ========================================================================
+
+    public enum Scenario {
+        DASHBOARD,
+        SEARCH,
+        WRITE;
+
+        /**
+         * Parse "dashboard:60,search:30,write:10"; omitted scenarios get weight 0
+         */
+        static Map<Scenario, Integer> parseMix(String mix) {
+            Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.trim().split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid mix entry: " + entry);
+                }
+                weights.put(Scenario.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+            }
+            if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+                throw new IllegalArgumentException("Mix must have a positive total weight: " + mix);
+            }
+            return weights;
+        }
+
+        static Scenario pick(Map<Scenario, Integer> weights, Random random) {
+            int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+            int target = random.nextInt(total);
+            for (Map.Entry<Scenario, Integer> entry : weights.entrySet()) {
+                target -= entry.getValue();
+                if (target < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("Unreachable");
+        }
+    }
+
+    private static final class Session {
+
+        private final String token;
+        private final List<Long> expenseCategoryIds = new ArrayList<>();
+        private volatile String lastError;
+
+        private Session(String token) {
+            this.token = token;
+        }
+    }
+}
@@ -1,30 +1,56 @@
 package com.expensetracker.config;
 
+import com.expensetracker.security.UserCacheLoader;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Cache configuration for application-level caching
- * Uses simple in-memory cache (ConcurrentHashMap)
- * For production, consider using Redis or Caffeine
+ * Uses bounded Caffeine caches, one per entry in app.cache.specs
+ * Statistics are recorded so Spring Boot binds hit/miss/eviction metrics to the meter registry
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
-        SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(Arrays.asList(
-                new ConcurrentMapCache("currencies"),        // Static currency data
-                new ConcurrentMapCache("users")              // User authentication details (CRITICAL for performance - caches every authenticated request)
-        ));
+    public CacheManager cacheManager(CacheSpecProperties properties, UserCacheLoader userCacheLoader) {
+        Map<String, CacheLoader<Object, Object>> loaders = Map.of(
+                "users", userCacheLoader              // Refresh-ahead for authentication details loaded on every request
+        );
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // No dynamic caches: a cache name without a spec fails fast instead of growing unbounded
+        cacheManager.setCacheNames(List.of());
+
+        properties.getSpecs().forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(spec.getMaximumSize())
+                    .recordStats();
+            if (spec.getExpireAfterWrite() != null) {
+                builder.expireAfterWrite(spec.getExpireAfterWrite());
+            }
+
+            CacheLoader<Object, Object> loader = loaders.get(name);
+            if (loader != null) {
+                if (spec.getRefreshAfterWrite() != null) {
+                    builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+                }
+                cacheManager.registerCustomCache(name, builder.build(loader));
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+        });
         return cacheManager;
     }
 }
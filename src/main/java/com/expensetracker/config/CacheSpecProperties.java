@@ -0,0 +1,39 @@
+package com.expensetracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache eviction settings bound from app.cache.specs.<cache-name>
+ * Every cache served by the application must have an entry here
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+
+        /**
+         * Upper bound on entries before size-based eviction kicks in
+         */
+        private long maximumSize = 1000;
+
+        /**
+         * Entry lifetime since it was written (unset = no time-based expiry)
+         */
+        private Duration expireAfterWrite;
+
+        /**
+         * Age after which a read triggers an asynchronous reload while the old value is still served
+         * Only honoured for caches with a registered loader
+         */
+        private Duration refreshAfterWrite;
+    }
+}
@@ -0,0 +1,63 @@
+package com.expensetracker.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Accumulates the time each thread spends waiting in getConnection
+ * Covers the pool's own wait and, in virtual-thread mode, the permit wait in front of it.
+ * RepositoryMetricsInterceptor reads the per-thread total before and after a repository
+ * call to attribute connection-acquire wait to the repository method that triggered it
+ */
+public class ConnectionAcquireTimingDataSource extends DelegatingDataSource {
+
+    // [0] total wait in nanoseconds, [1] number of connections acquired
+    private static final ThreadLocal<long[]> ACQUIRED = ThreadLocal.withInitial(() -> new long[2]);
+
+    public ConnectionAcquireTimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Total nanoseconds the current thread has spent acquiring connections
+     */
+    public static long acquireNanos() {
+        return ACQUIRED.get()[0];
+    }
+
+    /**
+     * Number of connections the current thread has acquired
+     */
+    public static long acquireCount() {
+        return ACQUIRED.get()[1];
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long started = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            recordAcquire(started);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long started = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            recordAcquire(started);
+        }
+    }
+
+    private static void recordAcquire(long started) {
+        long[] acquired = ACQUIRED.get();
+        acquired[0] += System.nanoTime() - started;
+        acquired[1]++;
+    }
+}
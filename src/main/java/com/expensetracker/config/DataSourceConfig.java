@@ -0,0 +1,82 @@
+package com.expensetracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Separate connection pools for read-write and read-only work
+ * The application DataSource acquires physical connections lazily, once the readOnly flag of
+ * the surrounding transaction is known: @Transactional(readOnly = true) work runs on the replica
+ * pool, everything else on the primary pool. Reads tagged with a data generation are pinned to the
+ * primary (PrimaryReads), since the replica may lag behind the version bump. Each pool is sized and reported (hikaricp_* metrics,
+ * tagged by pool name) on its own, so heavy reads cannot exhaust the connections writes need.
+ * Connection acquisition is timed per thread for the repository metrics (RepositoryMetricsConfig),
+ * statement executions for the slow-query log (SlowQueryConfig)
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final String REPLICA_PREFIX = "app.datasource.replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Replica pool: takes the spring.datasource.hikari settings, then app.datasource.replica.hikari overrides
+     * Without app.datasource.replica.url it connects to the primary database, still as a separate pool
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, Environment environment) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replicaProperty(environment, "url", primary.determineUrl()))
+                .username(replicaProperty(environment, "username", primary.determineUsername()))
+                .password(replicaProperty(environment, "password", primary.determinePassword()))
+                .build();
+
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        binder.bind(REPLICA_PREFIX + ".hikari", Bindable.ofInstance(replica));
+        return replica;
+    }
+
+    // Pools are injected as DataSource: in virtual-thread mode they are wrapped (see VirtualThreadsConfig)
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            SlowQueryLog slowQueryLog
+    ) {
+        DataSource primary = new ConnectionAcquireTimingDataSource(
+                new SlowQueryCapturingDataSource(primaryDataSource, slowQueryLog, "primary"));
+        DataSource replica = new ConnectionAcquireTimingDataSource(
+                new SlowQueryCapturingDataSource(replicaDataSource, slowQueryLog, "replica"));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReadOnlyRoutingDataSource(replica, primary));
+        return dataSource;
+    }
+
+    private static String replicaProperty(Environment environment, String name, String fallback) {
+        String value = environment.getProperty(REPLICA_PREFIX + "." + name);
+        return StringUtils.hasText(value) ? value : fallback;
+    }
+}
@@ -0,0 +1,40 @@
+package com.expensetracker.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins read-only work on the current thread to the primary pool
+ * UserDataVersions is bumped as soon as the primary commits, so a read tagged with the new
+ * generation (a statistics cache fill, an ETag'd body) must not come from a replica that has not
+ * replayed the write yet: it would publish pre-write data under the post-write version.
+ * Only the physical connection choice changes; the transaction stays read-only
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * Run the work with read-only connections taken from the primary pool; calls may nest
+     * Connections are acquired lazily, so the transaction must start inside the work
+     */
+    public static <T> T call(Supplier<T> work) {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
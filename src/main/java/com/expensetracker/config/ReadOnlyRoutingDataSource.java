@@ -0,0 +1,32 @@
+package com.expensetracker.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read-only DataSource: replica connections, or primary ones while the thread is pinned by PrimaryReads
+ */
+public class ReadOnlyRoutingDataSource extends DelegatingDataSource {
+
+    private final DataSource primaryDataSource;
+
+    public ReadOnlyRoutingDataSource(DataSource replicaDataSource, DataSource primaryDataSource) {
+        super(replicaDataSource);
+        this.primaryDataSource = primaryDataSource;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return PrimaryReads.isPinned() ? primaryDataSource.getConnection() : super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return PrimaryReads.isPinned()
+                ? primaryDataSource.getConnection(username, password)
+                : super.getConnection(username, password);
+    }
+}
@@ -0,0 +1,35 @@
+package com.expensetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Per-method repository metrics, exported through /actuator/prometheus
+ * Adds RepositoryMetricsInterceptor as the outermost advice of every Spring Data repository
+ * proxy; percentiles and histograms for all spring.data.repository.* meters are configured
+ * under management.metrics.distribution
+ */
+@Configuration
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsCustomizer(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Repository proxies are built in afterPropertiesSet, so customize the factory before it
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0, new RepositoryMetricsInterceptor(
+                                    meterRegistry.getObject(),
+                                    repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
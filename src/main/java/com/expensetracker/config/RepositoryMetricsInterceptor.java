@@ -0,0 +1,97 @@
+package com.expensetracker.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+
+/**
+ * Records result-row counts and connection-acquire wait for every repository method
+ * Invocation timers come from Spring Boot (spring.data.repository.invocations, tagged
+ * by repository, method, state and exception); this adds, tagged by repository and method:
+ * <ul>
+ *   <li>spring.data.repository.results: rows returned (collection or page size, 0/1 for
+ *       Optional and single results; streams are not counted)</li>
+ *   <li>spring.data.repository.connection.acquire: time spent acquiring JDBC connections,
+ *       recorded for calls that acquired at least one</li>
+ * </ul>
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    public static final String RESULTS_METRIC = "spring.data.repository.results";
+    public static final String CONNECTION_ACQUIRE_METRIC = "spring.data.repository.connection.acquire";
+
+    private final MeterRegistry meterRegistry;
+    private final String repository;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsInterceptor(MeterRegistry meterRegistry, String repository) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long acquireNanosBefore = ConnectionAcquireTimingDataSource.acquireNanos();
+        long acquireCountBefore = ConnectionAcquireTimingDataSource.acquireCount();
+        MethodMeters methodMeters = meters.computeIfAbsent(invocation.getMethod(), this::createMeters);
+
+        try {
+            Object result = invocation.proceed();
+            long rows = invocation.getMethod().getReturnType() == void.class ? -1 : rowCount(result);
+            if (rows >= 0) {
+                methodMeters.results().record(rows);
+            }
+            return result;
+        } finally {
+            if (ConnectionAcquireTimingDataSource.acquireCount() > acquireCountBefore) {
+                methodMeters.connectionAcquire().record(
+                        ConnectionAcquireTimingDataSource.acquireNanos() - acquireNanosBefore, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private MethodMeters createMeters(Method method) {
+        DistributionSummary results = DistributionSummary.builder(RESULTS_METRIC)
+                .description("Rows returned by repository invocations")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .register(meterRegistry);
+        Timer connectionAcquire = Timer.builder(CONNECTION_ACQUIRE_METRIC)
+                .description("Time repository invocations spent acquiring JDBC connections")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .register(meterRegistry);
+        return new MethodMeters(results, connectionAcquire);
+    }
+
+    /**
+     * Rows in a repository result, or -1 when the result cannot be counted without consuming it
+     */
+    private static long rowCount(Object result) {
+        return switch (result) {
+            case null -> 0;
+            case Collection<?> collection -> collection.size();
+            case Slice<?> slice -> slice.getNumberOfElements();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            case Object[] array -> array.length;
+            case BaseStream<?, ?> ignored -> -1;
+            case Iterable<?> ignored -> -1;
+            default -> 1;
+        };
+    }
+
+    private record MethodMeters(DistributionSummary results, Timer connectionAcquire) {
+    }
+}
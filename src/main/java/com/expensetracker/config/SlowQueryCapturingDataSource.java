@@ -0,0 +1,85 @@
+package com.expensetracker.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Times every statement execution and hands it to the SlowQueryLog
+ * Connections and the statements they create are proxied; the only per-execution cost
+ * is a System.nanoTime pair, everything else happens in SlowQueryLog past its threshold
+ */
+public class SlowQueryCapturingDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+    private final String name;
+
+    public SlowQueryCapturingDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog, String name) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+        this.name = name;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return capturing(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return capturing(super.getConnection(username, password));
+    }
+
+    private Connection capturing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invokeTarget(connection, method, args);
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        // prepareStatement/prepareCall carry their SQL; createStatement passes it on execute
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return timed(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                }
+        );
+    }
+
+    private Object timed(Statement statement, Class<?> statementType, String preparedSql) {
+        return Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{statementType},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invokeTarget(statement, method, args);
+                    }
+                    String sql = preparedSql != null ? preparedSql
+                            : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                    long started = System.nanoTime();
+                    boolean failed = true;
+                    try {
+                        Object result = invokeTarget(statement, method, args);
+                        failed = false;
+                        return result;
+                    } finally {
+                        slowQueryLog.record(name, sql, System.nanoTime() - started, failed);
+                    }
+                }
+        );
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
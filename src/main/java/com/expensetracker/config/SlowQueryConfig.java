@@ -0,0 +1,61 @@
+package com.expensetracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Slow-query capture: statements on both pools slower than app.slow-queries.threshold are
+ * fingerprinted and kept in memory (see SlowQueryLog), read through the slowqueries endpoint.
+ * The endpoint is exposed over JMX only: the web actuator is open to every authenticated user
+ */
+@Configuration
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(
+            @Value("${app.slow-queries.threshold:500ms}") Duration threshold,
+            @Value("${app.slow-queries.capacity:200}") int capacity,
+            @Value("${app.slow-queries.max-fingerprints:1000}") long maxFingerprints
+    ) {
+        return new SlowQueryLog(threshold, capacity, maxFingerprints);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+
+    @Endpoint(id = "slowqueries")
+    public static class SlowQueryEndpoint {
+
+        private final SlowQueryLog slowQueryLog;
+
+        SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @ReadOperation
+        public SlowQueryReport slowQueries() {
+            return new SlowQueryReport(
+                    slowQueryLog.getThreshold().toMillis(),
+                    slowQueryLog.totalRecorded(),
+                    slowQueryLog.fingerprints(),
+                    slowQueryLog.recent()
+            );
+        }
+    }
+
+    public record SlowQueryReport(
+            long thresholdMillis,
+            long totalRecorded,
+            List<SlowQueryLog.FingerprintSummary> fingerprints,
+            List<SlowQueryLog.SlowQuery> recent
+    ) {
+    }
+}
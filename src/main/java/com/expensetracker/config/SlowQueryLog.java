@@ -0,0 +1,155 @@
+package com.expensetracker.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Statement executions slower than the configured threshold
+ * Keeps the most recent slow executions in a fixed-size ring buffer and per-fingerprint
+ * aggregates (count, p50/p99 over the latest samples, max) in a bounded cache.
+ * Executions under the threshold cost a single comparison; fingerprinting happens only past it
+ */
+@Slf4j
+public class SlowQueryLog {
+
+    private static final int SAMPLES_PER_FINGERPRINT = 256;
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowQuery> recent;
+    private final AtomicLong recorded = new AtomicLong();
+    private final Cache<String, FingerprintStats> fingerprints;
+
+    public SlowQueryLog(Duration threshold, int capacity, long maxFingerprints) {
+        this.thresholdNanos = threshold.toNanos();
+        this.recent = new AtomicReferenceArray<>(capacity);
+        this.fingerprints = Caffeine.newBuilder()
+                .maximumSize(maxFingerprints)
+                .build();
+    }
+
+    public Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    /**
+     * Records an execution of the given SQL if it took at least the threshold
+     */
+    public void record(String dataSource, String sql, long elapsedNanos, boolean failed) {
+        if (elapsedNanos < thresholdNanos || sql == null) {
+            return;
+        }
+        String normalized = SqlFingerprint.normalize(sql);
+        String fingerprint = SqlFingerprint.id(normalized);
+        long elapsedMillis = Duration.ofNanos(elapsedNanos).toMillis();
+
+        long sequence = recorded.getAndIncrement();
+        recent.set((int) (sequence % recent.length()), new SlowQuery(
+                Instant.now(), fingerprint, normalized, dataSource, elapsedMillis, failed));
+        fingerprints.get(fingerprint, key -> new FingerprintStats(key, normalized)).record(elapsedMillis);
+
+        log.warn("Slow query [{}] on {} took {} ms: {}", fingerprint, dataSource, elapsedMillis, normalized);
+    }
+
+    /**
+     * Slow executions still in the ring buffer, newest first
+     */
+    public List<SlowQuery> recent() {
+        List<SlowQuery> queries = new ArrayList<>(recent.length());
+        for (int i = 0; i < recent.length(); i++) {
+            SlowQuery query = recent.get(i);
+            if (query != null) {
+                queries.add(query);
+            }
+        }
+        queries.sort(Comparator.comparing(SlowQuery::timestamp).reversed());
+        return queries;
+    }
+
+    /**
+     * Per-fingerprint aggregates, slowest p99 first
+     */
+    public List<FingerprintSummary> fingerprints() {
+        return fingerprints.asMap().values().stream()
+                .map(FingerprintStats::summary)
+                .sorted(Comparator.comparingLong(FingerprintSummary::p99Millis).reversed())
+                .toList();
+    }
+
+    /**
+     * Number of slow executions recorded since startup, including those evicted from the buffer
+     */
+    public long totalRecorded() {
+        return recorded.get();
+    }
+
+    /**
+     * One slow execution; the SQL is the normalized form, so literal and bind values never appear
+     */
+    public record SlowQuery(
+            Instant timestamp,
+            String fingerprint,
+            String sql,
+            String dataSource,
+            long durationMillis,
+            boolean failed
+    ) {
+    }
+
+    public record FingerprintSummary(
+            String fingerprint,
+            String sql,
+            long count,
+            long p50Millis,
+            long p99Millis,
+            long maxMillis,
+            Instant lastSeen
+    ) {
+    }
+
+    private static final class FingerprintStats {
+
+        private final String fingerprint;
+        private final String sql;
+        private final long[] samples = new long[SAMPLES_PER_FINGERPRINT];
+        private long count;
+        private long maxMillis;
+        private Instant lastSeen;
+
+        private FingerprintStats(String fingerprint, String sql) {
+            this.fingerprint = fingerprint;
+            this.sql = sql;
+        }
+
+        synchronized void record(long elapsedMillis) {
+            samples[(int) (count % samples.length)] = elapsedMillis;
+            count++;
+            maxMillis = Math.max(maxMillis, elapsedMillis);
+            lastSeen = Instant.now();
+        }
+
+        synchronized FingerprintSummary summary() {
+            long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+            Arrays.sort(sorted);
+            return new FingerprintSummary(fingerprint, sql, count,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), maxMillis, lastSeen);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
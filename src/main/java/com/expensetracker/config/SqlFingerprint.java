@@ -0,0 +1,41 @@
+package com.expensetracker.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Normalized form of a SQL statement with every literal replaced by ?
+ * Statements differing only in literal values, bind values or IN-list length share a fingerprint,
+ * so the normalized text doubles as the redacted statement shown for slow executions
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w$.])-?\\d+(?:\\.\\d+)?(?:[eE][-+]?\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * SQL with literals replaced by ?, IN lists collapsed to (?...) and whitespace collapsed
+     */
+    public static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * Short stable id of a normalized statement, for grouping and log correlation
+     */
+    public static String id(String normalizedSql) {
+        CRC32 crc = new CRC32();
+        crc.update(normalizedSql.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().toHexDigits((int) crc.getValue());
+    }
+}
@@ -0,0 +1,53 @@
+package com.expensetracker.config;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.boot.model.relational.QualifiedSequenceName;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
+import org.hibernate.id.enhanced.StandardNamingStrategy;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+
+import java.util.Map;
+
+/**
+ * Resolves the implicit id sequence of each entity to PostgreSQL's serial naming, <table>_id_seq
+ * Lets BaseEntity use one @GeneratedValue(SEQUENCE) while every table keeps its own
+ * sequence, the same one its column default draws from (see V27__pooled_id_sequences.sql)
+ */
+public class TableIdSequenceNamingStrategy implements ImplicitDatabaseObjectNamingStrategy {
+
+    private static final String SEQUENCE_SUFFIX = "_id_seq";
+
+    private final StandardNamingStrategy standard = new StandardNamingStrategy();
+
+    @Override
+    public QualifiedName determineSequenceName(
+            Identifier catalogName,
+            Identifier schemaName,
+            Map<?, ?> configValues,
+            ServiceRegistry serviceRegistry
+    ) {
+        String tableName = ConfigurationHelper.getString(PersistentIdentifierGenerator.TABLE, configValues);
+        if (tableName == null) {
+            return standard.determineSequenceName(catalogName, schemaName, configValues, serviceRegistry);
+        }
+
+        Identifier sequenceName = serviceRegistry.getService(JdbcEnvironment.class)
+                .getIdentifierHelper()
+                .toIdentifier(Identifier.toIdentifier(tableName).getText() + SEQUENCE_SUFFIX);
+        return new QualifiedSequenceName(catalogName, schemaName, sequenceName);
+    }
+
+    @Override
+    public QualifiedName determineTableName(
+            Identifier catalogName,
+            Identifier schemaName,
+            Map<?, ?> configValues,
+            ServiceRegistry serviceRegistry
+    ) {
+        return standard.determineTableName(catalogName, schemaName, configValues, serviceRegistry);
+    }
+}
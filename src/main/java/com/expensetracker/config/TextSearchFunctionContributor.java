@@ -0,0 +1,36 @@
+package com.expensetracker.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * PostgreSQL text search operators for criteria queries (CONTAINS_TEXT and FULL_TEXT)
+ * Rendered exactly as the expressions of the V29 description indexes so the planner can use them;
+ * registered through META-INF/services
+ */
+public class TextSearchFunctionContributor implements FunctionContributor {
+
+    public static final String FULL_TEXT_MATCH = "full_text_match";
+    public static final String FULL_TEXT_RANK = "full_text_rank";
+    public static final String TRIGRAM_RANK = "trigram_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        // ?1 = column, ?2 = search text
+        registry.registerPattern(FULL_TEXT_MATCH,
+                "(to_tsvector('simple', coalesce(?1, '')) @@ plainto_tsquery('simple', ?2))", booleanType);
+        registry.registerPattern(FULL_TEXT_RANK,
+                "ts_rank(to_tsvector('simple', coalesce(?1, '')), plainto_tsquery('simple', ?2))", doubleType);
+        registry.registerPattern(TRIGRAM_RANK,
+                "word_similarity(lower(?2), lower(?1))", doubleType);
+    }
+}
@@ -0,0 +1,109 @@
+package com.expensetracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Virtual-thread execution mode, active when spring.threads.virtual.enabled=true
+ * Spring Boot then runs Tomcat requests and @Async/scheduled tasks on virtual threads;
+ * this adds a JDBC concurrency guard sized to the Hikari pool and a JFR monitor
+ * reporting virtual threads pinned to their carrier (synchronized blocks, native frames)
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadsConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyGuard(Environment environment) {
+        Duration acquireTimeout = environment.getProperty(
+                "app.virtual-threads.db-permit-timeout", Duration.class, Duration.ofSeconds(60));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    log.info("Limiting concurrent JDBC access to {} connections", hikari.getMaximumPoolSize());
+                    return new ConcurrencyLimitedDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment environment, MeterRegistry meterRegistry) {
+        Duration threshold = environment.getProperty(
+                "app.virtual-threads.pinning-threshold", Duration.class, Duration.ofMillis(20));
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+
+    /**
+     * Streams jdk.VirtualThreadPinned JFR events in-process, logs the pinning stack
+     * and counts occurrences in jvm.threads.virtual.pinned
+     */
+    static class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+        private static final int LOGGED_FRAMES = 8;
+
+        private final Duration threshold;
+        private final Counter pinnedCounter;
+        private RecordingStream recordingStream;
+
+        VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+            this.threshold = threshold;
+            this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                    .description("Virtual threads pinned to their carrier longer than the threshold")
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void afterPropertiesSet() {
+            recordingStream = new RecordingStream();
+            recordingStream.enable("jdk.VirtualThreadPinned")
+                    .withThreshold(threshold)
+                    .withStackTrace();
+            recordingStream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+            recordingStream.startAsync();
+        }
+
+        private void onPinned(RecordedEvent event) {
+            pinnedCounter.increment();
+            String stack = event.getStackTrace() == null
+                    ? "<no stack trace>"
+                    : event.getStackTrace().getFrames().stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(VirtualThreadPinningMonitor::formatFrame)
+                    .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+            log.warn("Virtual thread pinned for {} ms\n{}", event.getDuration().toMillis(), stack);
+        }
+
+        private static String formatFrame(RecordedFrame frame) {
+            return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + ":" + frame.getLineNumber();
+        }
+
+        @Override
+        public void destroy() {
+            if (recordingStream != null) {
+                recordingStream.close();
+            }
+        }
+    }
+}
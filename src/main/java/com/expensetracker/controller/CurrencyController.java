@@ -2,6 +2,7 @@ package com.expensetracker.controller;
 
 import com.expensetracker.dto.currency.CurrencyResponse;
 import com.expensetracker.service.CurrencyService;
+import com.expensetracker.service.cache.DataVersionETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,13 +21,14 @@ import java.util.List;
 public class CurrencyController {
 
     private final CurrencyService currencyService;
+    private final DataVersionETags dataVersionETags;
 
     @GetMapping
     @Operation(
             summary = "Get all currencies",
             description = "Returns a list of all available currencies with their codes, names, and symbols"
     )
-    public ResponseEntity<List<CurrencyResponse>> getAllCurrencies() {
-        return ResponseEntity.ok(currencyService.getAllCurrencies());
+    public ResponseEntity<List<CurrencyResponse>> getAllCurrencies(WebRequest request) {
+        return dataVersionETags.forStaticResource(request, currencyService::getAllCurrencies, "currencies");
     }
 }
@@ -1,25 +1,37 @@
 package com.expensetracker.controller;
 
 import com.expensetracker.dto.common.FilterRequest;
+import com.expensetracker.dto.transaction.TransactionBatchRequest;
+import com.expensetracker.dto.transaction.TransactionBatchResponse;
 import com.expensetracker.dto.transaction.TransactionRequest;
 import com.expensetracker.dto.transaction.TransactionResponse;
 import com.expensetracker.dto.transaction.TransactionSearchResponse;
 import com.expensetracker.dto.transaction.TransactionStatisticsResponse;
+import com.expensetracker.dto.transaction.export.ExportFormat;
 import com.expensetracker.dto.transaction.statistics.*;
 import com.expensetracker.entity.CategoryType;
+import com.expensetracker.service.TransactionExportService;
+import com.expensetracker.service.TransactionImportService;
 import com.expensetracker.service.TransactionService;
 import com.expensetracker.service.TransactionStatisticsService;
+import com.expensetracker.service.cache.DataVersionETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 
 @RestController
@@ -31,6 +43,9 @@ public class TransactionController {
 
     private final TransactionService transactionService;
     private final TransactionStatisticsService statisticsService;
+    private final TransactionExportService exportService;
+    private final TransactionImportService importService;
+    private final DataVersionETags dataVersionETags;
 
     @PostMapping
     @Operation(summary = "Create a new transaction")
@@ -38,6 +53,19 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(transactionService.createTransaction(request));
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Import transactions in bulk",
+            description = """
+                    Creates up to 5000 transactions in one request. Rows are validated individually \
+                    and applied in order against the wallet balance; the response reports the outcome \
+                    of every row (CREATED with its id, or FAILED with the reason).
+                    """
+    )
+    public ResponseEntity<TransactionBatchResponse> importBatch(@Valid @RequestBody TransactionBatchRequest request) {
+        return ResponseEntity.ok(importService.importTransactions(request));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get transaction by id")
     public ResponseEntity<TransactionResponse> getById(@PathVariable Long id) {
@@ -112,13 +140,40 @@ public class TransactionController {
         return ResponseEntity.ok(transactionService.searchTransactions(filterRequest));
     }
 
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export transactions as CSV or NDJSON",
+            description = """
+                    Streams every transaction matching the same criteria as /search, without paging. \
+                    Criteria are passed as indexed query parameters.
+
+                    Examples:
+                    - GET /export?format=CSV
+                    - GET /export?format=NDJSON&criteria[0].field=date&criteria[0].operation=BETWEEN&criteria[0].value=2024-01-01&criteria[0].valueTo=2024-12-31
+                    """
+    )
+    public void export(
+            @Valid @ModelAttribute FilterRequest filterRequest,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format.mediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("transactions." + format.fileExtension())
+                .build()
+                .toString());
+        exportService.export(filterRequest, format, response.getWriter());
+    }
+
     @GetMapping("/statistics/overview")
     @Operation(
             summary = "Get quick statistics overview",
             description = "Returns today, week, and month totals for both income and expenses"
     )
-    public ResponseEntity<TransactionOverviewResponse> getOverview() {
-        return ResponseEntity.ok(statisticsService.getOverview());
+    public ResponseEntity<TransactionOverviewResponse> getOverview(WebRequest request) {
+        // Totals are relative to today, so the ETag changes with the date as well as the data
+        return dataVersionETags.forCurrentUser(request, statisticsService::getOverview, "overview", LocalDate.now());
     }
 
     @GetMapping("/statistics/summary")
@@ -179,10 +234,12 @@ public class TransactionController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) CategoryType type,
-            @RequestParam(required = false) BigDecimal minPercentage
+            @RequestParam(required = false) BigDecimal minPercentage,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(statisticsService.getCategoryStatistics(
-                period, startDate, endDate, type, minPercentage));
+        return dataVersionETags.forCurrentUser(request,
+                () -> statisticsService.getCategoryStatistics(period, startDate, endDate, type, minPercentage),
+                "categories", LocalDate.now(), period, startDate, endDate, type, minPercentage);
     }
 
     @GetMapping("/statistics/trends")
@@ -3,12 +3,14 @@ package com.expensetracker.controller;
 import com.expensetracker.dto.user.UserProfileResponse;
 import com.expensetracker.dto.user.WalletResponse;
 import com.expensetracker.service.UserService;
+import com.expensetracker.service.cache.DataVersionETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/user")
@@ -18,11 +20,12 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final DataVersionETags dataVersionETags;
 
     @GetMapping("/profile")
     @Operation(summary = "Get current user profile")
-    public ResponseEntity<UserProfileResponse> getUserProfile() {
-        return ResponseEntity.ok(userService.getUserProfile());
+    public ResponseEntity<UserProfileResponse> getUserProfile(WebRequest request) {
+        return dataVersionETags.forCurrentUser(request, userService::getUserProfile, "profile");
     }
 
     @PutMapping("/currency")
@@ -33,7 +36,7 @@ public class UserController {
 
     @GetMapping("/wallet")
     @Operation(summary = "Get detailed wallet information")
-    public ResponseEntity<WalletResponse> getWalletDetails() {
-        return ResponseEntity.ok(userService.getWalletDetails());
+    public ResponseEntity<WalletResponse> getWalletDetails(WebRequest request) {
+        return dataVersionETags.forCurrentUser(request, userService::getWalletDetails, "wallet");
     }
 }
@@ -0,0 +1,22 @@
+package com.expensetracker.dto.common;
+
+/**
+ * How OFFSET search pages report the number of matching rows
+ */
+public enum CountMode {
+    /**
+     * Exact total count of the filtered set
+     */
+    EXACT,
+
+    /**
+     * Count capped at a fixed limit: above it totalElements is the cap and totalElementsCapped is set
+     * (displayed as "10000+"), so a large result never pays for a full count
+     */
+    ESTIMATE,
+
+    /**
+     * No count: totalElements and totalPages are null, hasNext comes from fetching one extra row
+     */
+    NONE
+}
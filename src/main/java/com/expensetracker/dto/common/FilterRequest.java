@@ -26,6 +26,20 @@ import java.util.List;
  *   "sortBy": "date",
  *   "sortOrder": "DESC"
  * }
+ *
+ * For keyset pagination set "paginationMode": "KEYSET" and pass the
+ * "nextCursor" of the previous response as "cursor" (omit it for the first page).
+ * Keyset pages carry no total count; summary totals are returned only with "includeSummary": true,
+ * and only on the first page
+ *
+ * Set "includeSummary": false when the summary totals of OFFSET pages are not displayed
+ *
+ * Set "countMode": "ESTIMATE" or "NONE" to skip the exact total count of OFFSET pages, e.g. for
+ * infinite scrolling. Summary totals need a full scan, so these modes return no summary;
+ * combining them with "includeSummary": true is rejected
+ *
+ * With CONTAINS_TEXT or FULL_TEXT criteria, "sortBy": "relevance" returns the best matches first
+ * (OFFSET mode only)
  */
 @Data
 @Builder
@@ -49,4 +63,18 @@ public class FilterRequest {
 
     @Schema(description = "Sort direction", example = "DESC")
     private SortOrder sortOrder;
+
+    @Schema(description = "Pagination strategy (defaults to OFFSET)", example = "KEYSET")
+    private PaginationMode paginationMode;
+
+    @Schema(description = "Opaque cursor from the previous page's nextCursor (KEYSET mode only)")
+    private String cursor;
+
+    @Schema(description = "Compute summary totals over all matching transactions (defaults to true for OFFSET pages "
+            + "with countMode EXACT; KEYSET pages compute them only when true, on the first page)", example = "true")
+    private Boolean includeSummary;
+
+    @Schema(description = "Total count of OFFSET pages (defaults to EXACT); ESTIMATE and NONE return no summary "
+            + "and cannot be combined with includeSummary=true", example = "NONE")
+    private CountMode countMode;
 }
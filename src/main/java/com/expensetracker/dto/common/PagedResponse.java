@@ -8,12 +8,14 @@ public record PagedResponse<T>(
         List<T> content,
         int currentPage,
         int pageSize,
-        long totalElements,
-        int totalPages,
+        Long totalElements,                // null in KEYSET mode and with count mode NONE
+        Integer totalPages,                // null in KEYSET mode and with count mode NONE
+        boolean totalElementsCapped,       // totalElements is a lower bound (count mode ESTIMATE)
         boolean first,
         boolean last,
         boolean hasNext,
-        boolean hasPrevious
+        boolean hasPrevious,
+        String nextCursor                  // KEYSET mode only, null on the last page
 ) {
     public static <T> PagedResponse<T> of(
             List<T> content,
@@ -33,10 +35,67 @@ public record PagedResponse<T>(
                 pageSize,
                 totalElements,
                 totalPages,
+                false,
                 isFirst,
                 isLast,
                 hasNext,
-                hasPrevious
+                hasPrevious,
+                null
+        );
+    }
+
+    /**
+     * Create an offset page without an exact count: hasNext comes from fetching one extra row,
+     * totalElements is null when not counted and a lower bound when capped
+     */
+    public static <T> PagedResponse<T> ofUncounted(
+            List<T> content,
+            int currentPage,
+            int pageSize,
+            boolean hasNext,
+            Long totalElements,
+            boolean totalElementsCapped
+    ) {
+        Integer totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / pageSize) : null;
+
+        return new PagedResponse<>(
+                content,
+                currentPage,
+                pageSize,
+                totalElements,
+                totalPages,
+                totalElementsCapped,
+                currentPage == 0,
+                !hasNext,
+                hasNext,
+                currentPage > 0,
+                null
+        );
+    }
+
+    /**
+     * Create a keyset page: no total count, navigation by cursor only
+     */
+    public static <T> PagedResponse<T> ofCursor(
+            List<T> content,
+            int pageSize,
+            boolean firstPage,
+            String nextCursor
+    ) {
+        boolean hasNext = nextCursor != null;
+
+        return new PagedResponse<>(
+                content,
+                0,
+                pageSize,
+                null,
+                null,
+                false,
+                firstPage,
+                !hasNext,
+                hasNext,
+                !firstPage,
+                nextCursor
         );
     }
 
@@ -50,10 +109,12 @@ public record PagedResponse<T>(
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
+                false,
                 page.isFirst(),
                 page.isLast(),
                 page.hasNext(),
-                page.hasPrevious()
+                page.hasPrevious(),
+                null
         );
     }
 }
@@ -0,0 +1,17 @@
+package com.expensetracker.dto.common;
+
+/**
+ * Pagination strategy for search endpoints
+ */
+public enum PaginationMode {
+    /**
+     * Page number and size: LIMIT/OFFSET with a total count
+     */
+    OFFSET,
+
+    /**
+     * Seek pagination: continues after the opaque cursor of the previous page,
+     * no total count, constant cost regardless of how deep the client pages
+     */
+    KEYSET
+}
@@ -72,5 +72,18 @@ public enum SearchOperation {
     /**
      * Between: field BETWEEN value1 AND value2
      */
-    BETWEEN
+    BETWEEN,
+
+    /**
+     * Substring (case-insensitive, wildcards in value are literal): lower(field) LIKE %value%
+     * Only on description, served by its trigram index; rankable by word similarity
+     */
+    CONTAINS_TEXT,
+
+    /**
+     * Full-text word match: to_tsvector(field) @@ plainto_tsquery(value)
+     * Every word of value must occur in field; only on description, served by its tsvector index;
+     * rankable by ts_rank
+     */
+    FULL_TEXT
 }
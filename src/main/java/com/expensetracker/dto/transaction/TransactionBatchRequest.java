@@ -0,0 +1,17 @@
+package com.expensetracker.dto.transaction;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Bulk import request
+ * Rows are validated individually, so one invalid row does not reject the whole batch
+ */
+public record TransactionBatchRequest(
+        @NotEmpty(message = "At least one transaction is required")
+        @Size(max = 5000, message = "A batch cannot exceed 5000 transactions")
+        List<TransactionRequest> transactions
+) {
+}
@@ -0,0 +1,20 @@
+package com.expensetracker.dto.transaction;
+
+import java.util.List;
+
+/**
+ * Bulk import response with per-row results
+ */
+public record TransactionBatchResponse(
+        int total,
+        int created,
+        int failed,
+        List<TransactionBatchResult> results
+) {
+    public static TransactionBatchResponse of(List<TransactionBatchResult> results) {
+        int created = (int) results.stream()
+                .filter(result -> result.status() == TransactionBatchResult.Status.CREATED)
+                .count();
+        return new TransactionBatchResponse(results.size(), created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,24 @@
+package com.expensetracker.dto.transaction;
+
+/**
+ * Outcome of one row of a bulk import, in request order
+ */
+public record TransactionBatchResult(
+        int index,
+        Status status,
+        Long id,
+        String error
+) {
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    public static TransactionBatchResult created(int index, Long id) {
+        return new TransactionBatchResult(index, Status.CREATED, id, null);
+    }
+
+    public static TransactionBatchResult failed(int index, String error) {
+        return new TransactionBatchResult(index, Status.FAILED, null, error);
+    }
+}
@@ -0,0 +1,24 @@
+package com.expensetracker.dto.transaction.export;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType mediaType() {
+        return MediaType.parseMediaType(contentType);
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+}
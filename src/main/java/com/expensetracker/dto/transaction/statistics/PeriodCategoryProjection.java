@@ -0,0 +1,46 @@
+package com.expensetracker.dto.transaction.statistics;
+
+import com.expensetracker.entity.CategoryType;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-category totals for a current period and the period immediately before it
+ * Exposed as a CategoryBreakdownProjection of the current period
+ */
+public record PeriodCategoryProjection(
+    Long categoryId,
+    String categoryName,
+    CategoryType categoryType,
+    BigDecimal currentExpenses,
+    BigDecimal currentIncome,
+    Long currentTransactionCount,
+    BigDecimal previousExpenses,
+    BigDecimal previousIncome
+) implements CategoryBreakdownProjection {
+
+    @Override
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    @Override
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    @Override
+    public String getCategoryType() {
+        return categoryType.name();
+    }
+
+    @Override
+    public BigDecimal getAmount() {
+        return currentExpenses.add(currentIncome);
+    }
+
+    @Override
+    public Long getTransactionCount() {
+        return currentTransactionCount;
+    }
+}
@@ -4,6 +4,7 @@ import com.expensetracker.exception.BadRequestException;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,6 +18,9 @@ public class Transaction extends BaseEntity {
     @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal amount;
 
+    // Partition key of the transactions table (V28); entity UPDATE and DELETE
+    // statements match on (id, date) so PostgreSQL touches a single partition
+    @PartitionKey
     @Column(nullable = false)
     private LocalDate date;
 
@@ -0,0 +1,42 @@
+package com.expensetracker.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Daily per-category totals for a user's transactions
+ * Rows are written only through TransactionDailyRollupRepository upserts,
+ * so the entity is read-only from Hibernate's point of view
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Immutable
+@Table(name = "transaction_daily_rollups")
+public class TransactionDailyRollup extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal expenseAmount;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal incomeAmount;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+}
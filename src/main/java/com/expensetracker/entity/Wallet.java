@@ -4,6 +4,7 @@ import com.expensetracker.exception.BadRequestException;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 
@@ -12,10 +13,12 @@ import static com.expensetracker.entity.CategoryType.EXPENSE;
 @Entity
 @Getter
 @NoArgsConstructor
+@DynamicUpdate
 @Table(name = "wallets")
 public class Wallet extends BaseEntity {
 
-    @Column(nullable = false, precision = 15, scale = 2)
+    // Changed only by the atomic WalletRepository balance updates, never flushed from the entity
+    @Column(nullable = false, precision = 15, scale = 2, updatable = false)
     private BigDecimal amount = BigDecimal.ZERO;
 
     @OneToOne
@@ -35,34 +38,12 @@ public class Wallet extends BaseEntity {
         this.amount = BigDecimal.ZERO;
     }
 
-    public void deposit(BigDecimal depositAmount) {
-        validatePositiveAmount(depositAmount, "Deposit amount");
-        this.amount = this.amount.add(depositAmount);
-    }
-
-    public void withdraw(BigDecimal withdrawAmount) {
-        validatePositiveAmount(withdrawAmount, "Withdraw amount");
-        this.amount = this.amount.subtract(withdrawAmount);
-    }
-
-    public void applyTransaction(BigDecimal amount, CategoryType type) {
-        if (type == EXPENSE) {
-            withdraw(amount);
-        } else {
-            deposit(amount);
-        }
-    }
-
-    public void revertTransaction(BigDecimal amount, CategoryType type) {
-        if (type.equals(EXPENSE)) {
-            deposit(amount);
-        } else {
-            withdraw(amount);
-        }
-    }
-
-    public boolean hasSufficientFunds(BigDecimal amount) {
-        return this.amount.compareTo(amount) < 0;
+    /**
+     * Signed balance change of a transaction: expenses withdraw, income deposits
+     */
+    public static BigDecimal balanceChange(BigDecimal amount, CategoryType type) {
+        validatePositiveAmount(amount, "Transaction amount");
+        return type == EXPENSE ? amount.negate() : amount;
     }
 
     public void changeCurrency(Currency newCurrency) {
@@ -70,7 +51,7 @@ public class Wallet extends BaseEntity {
         this.currency = newCurrency;
     }
 
-    private void validatePositiveAmount(BigDecimal amount, String fieldName) {
+    private static void validatePositiveAmount(BigDecimal amount, String fieldName) {
         if (amount == null) {
             throw new BadRequestException(fieldName + " cannot be null");
         }
@@ -0,0 +1,297 @@
+package com.expensetracker.repository;
+
+import com.expensetracker.dto.transaction.StatisticsSummaryProjection;
+import com.expensetracker.dto.transaction.statistics.CategoryBreakdownProjection;
+import com.expensetracker.dto.transaction.statistics.OverviewProjection;
+import com.expensetracker.dto.transaction.statistics.PeriodCategoryProjection;
+import com.expensetracker.dto.transaction.statistics.TrendProjection;
+import com.expensetracker.entity.CategoryType;
+import com.expensetracker.entity.TransactionDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily rollup of transactions used by all statistics queries
+ * One row per (user, date, category), so aggregations scan at most
+ * one row per active day and category instead of every transaction
+ */
+@Repository
+public interface TransactionDailyRollupRepository extends JpaRepository<TransactionDailyRollup, Long> {
+
+    /**
+     * Add one transaction's amounts to the rollup row for (user, date, category), creating the row if missing
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO transaction_daily_rollups AS r
+                        (user_id, date, category_id, expense_amount, income_amount, transaction_count)
+                        VALUES (:userId, :date, :categoryId, :expenseAmount, :incomeAmount, 1)
+                        ON CONFLICT (user_id, date, category_id) DO UPDATE SET
+                        expense_amount = r.expense_amount + EXCLUDED.expense_amount,
+                        income_amount = r.income_amount + EXCLUDED.income_amount,
+                        transaction_count = r.transaction_count + 1,
+                        updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    void addTransaction(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("categoryId") Long categoryId,
+            @Param("expenseAmount") BigDecimal expenseAmount,
+            @Param("incomeAmount") BigDecimal incomeAmount
+    );
+
+    /**
+     * Add the totals of several transactions sharing (user, date, category) in one upsert (bulk import)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO transaction_daily_rollups AS r
+                        (user_id, date, category_id, expense_amount, income_amount, transaction_count)
+                        VALUES (:userId, :date, :categoryId, :expenseAmount, :incomeAmount, :transactionCount)
+                        ON CONFLICT (user_id, date, category_id) DO UPDATE SET
+                        expense_amount = r.expense_amount + EXCLUDED.expense_amount,
+                        income_amount = r.income_amount + EXCLUDED.income_amount,
+                        transaction_count = r.transaction_count + EXCLUDED.transaction_count,
+                        updated_at = CURRENT_TIMESTAMP
+            """, nativeQuery = true)
+    void addTransactions(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("categoryId") Long categoryId,
+            @Param("expenseAmount") BigDecimal expenseAmount,
+            @Param("incomeAmount") BigDecimal incomeAmount,
+            @Param("transactionCount") long transactionCount
+    );
+
+    /**
+     * Subtract one transaction's amounts from its existing rollup row
+     * A plain UPDATE rather than an upsert: the CHECK on transaction_count is evaluated
+     * against the proposed INSERT row before ON CONFLICT applies
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE transaction_daily_rollups
+                        SET expense_amount = expense_amount - :expenseAmount,
+                        income_amount = income_amount - :incomeAmount,
+                        transaction_count = transaction_count - 1,
+                        updated_at = CURRENT_TIMESTAMP
+                        WHERE user_id = :userId
+                        AND date = :date
+                        AND category_id = :categoryId
+            """, nativeQuery = true)
+    void removeTransaction(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("categoryId") Long categoryId,
+            @Param("expenseAmount") BigDecimal expenseAmount,
+            @Param("incomeAmount") BigDecimal incomeAmount
+    );
+
+    /**
+     * Remove the rollup row for (user, date, category) once its last transaction is gone
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM transaction_daily_rollups
+                        WHERE user_id = :userId
+                        AND date = :date
+                        AND category_id = :categoryId
+                        AND transaction_count = 0
+            """, nativeQuery = true)
+    void deleteIfEmpty(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("categoryId") Long categoryId
+    );
+
+    /**
+     * Move a category's totals between the expense and income columns
+     * Required when a category changes its type, since every rollup row stores amounts by type
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE transaction_daily_rollups
+                        SET expense_amount = income_amount,
+                        income_amount = expense_amount,
+                        updated_at = CURRENT_TIMESTAMP
+                        WHERE category_id = :categoryId
+            """, nativeQuery = true)
+    void swapTypeTotals(@Param("categoryId") Long categoryId);
+
+    /**
+     * Today, week, and month expense totals in a single query (deprecated statistics endpoint)
+     */
+    @Query("""
+            SELECT new com.expensetracker.dto.transaction.StatisticsSummaryProjection(
+                        COALESCE(SUM(CASE WHEN r.date = :today THEN r.expenseAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date BETWEEN :weekStart AND :weekEnd THEN r.expenseAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date BETWEEN :monthStart AND :monthEnd THEN r.expenseAmount ELSE 0 END), 0)
+                        ) FROM TransactionDailyRollup r
+                        WHERE r.user.id = :userId
+                        AND (r.date BETWEEN :weekStart AND :weekEnd OR r.date BETWEEN :monthStart AND :monthEnd)
+            """)
+    StatisticsSummaryProjection getExpenseSummary(
+            @Param("userId") Long userId,
+            @Param("today") LocalDate today,
+            @Param("weekStart") LocalDate weekStart,
+            @Param("weekEnd") LocalDate weekEnd,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd
+    );
+
+    /**
+     * Today, week, and month totals for both INCOME and EXPENSE in a single query
+     * Only the rows of the current week and month are scanned
+     */
+    @Query("""
+            SELECT new com.expensetracker.dto.transaction.statistics.OverviewProjection(
+                        COALESCE(SUM(CASE WHEN r.date = :today THEN r.expenseAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date = :today THEN r.incomeAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date BETWEEN :weekStart AND :weekEnd THEN r.expenseAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date BETWEEN :weekStart AND :weekEnd THEN r.incomeAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date BETWEEN :monthStart AND :monthEnd THEN r.expenseAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date BETWEEN :monthStart AND :monthEnd THEN r.incomeAmount ELSE 0 END), 0)
+                        ) FROM TransactionDailyRollup r
+                        WHERE r.user.id = :userId
+                        AND (r.date BETWEEN :weekStart AND :weekEnd OR r.date BETWEEN :monthStart AND :monthEnd)
+            """)
+    OverviewProjection getOverviewStatistics(
+            @Param("userId") Long userId,
+            @Param("today") LocalDate today,
+            @Param("weekStart") LocalDate weekStart,
+            @Param("weekEnd") LocalDate weekEnd,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd
+    );
+
+    /**
+     * Per-category totals of the current period and the adjacent previous period in one scan
+     * The window runs from previousStart to currentEnd; rows before currentStart count as previous.
+     * Pass previousStart = currentStart to skip the comparison
+     */
+    @Query("""
+            SELECT new com.expensetracker.dto.transaction.statistics.PeriodCategoryProjection(
+                        r.category.id,
+                        r.category.name,
+                        r.category.type,
+                        COALESCE(SUM(CASE WHEN r.date >= :currentStart THEN r.expenseAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date >= :currentStart THEN r.incomeAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date >= :currentStart THEN r.transactionCount ELSE 0L END), 0L),
+                        COALESCE(SUM(CASE WHEN r.date < :currentStart THEN r.expenseAmount ELSE 0 END), 0),
+                        COALESCE(SUM(CASE WHEN r.date < :currentStart THEN r.incomeAmount ELSE 0 END), 0)
+                        ) FROM TransactionDailyRollup r
+                        WHERE r.user.id = :userId
+                        AND r.date BETWEEN :previousStart AND :currentEnd
+                        AND (:type IS NULL OR r.category.type = :type)
+                        GROUP BY r.category.id, r.category.name, r.category.type
+            """)
+    List<PeriodCategoryProjection> getPeriodCategoryTotals(
+            @Param("userId") Long userId,
+            @Param("previousStart") LocalDate previousStart,
+            @Param("currentStart") LocalDate currentStart,
+            @Param("currentEnd") LocalDate currentEnd,
+            @Param("type") CategoryType type
+    );
+
+    /**
+     * Category breakdown with aggregation
+     * Returns category-wise breakdown with sum and count
+     */
+    @Query("""
+            SELECT r.category.id AS categoryId,
+                        r.category.name AS categoryName,
+                        CAST(r.category.type AS string) AS categoryType,
+                        SUM(r.expenseAmount + r.incomeAmount) AS amount,
+                        SUM(r.transactionCount) AS transactionCount
+                        FROM TransactionDailyRollup r
+                        WHERE r.user.id = :userId
+                        AND r.date BETWEEN :startDate AND :endDate
+                        AND (:type IS NULL OR r.category.type = :type)
+                        GROUP BY r.category.id, r.category.name, r.category.type
+                        ORDER BY SUM(r.expenseAmount + r.incomeAmount) DESC
+            """)
+    List<CategoryBreakdownProjection> getCategoryBreakdown(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("type") CategoryType type
+    );
+
+    /**
+     * Daily trends - group by date
+     * Returns aggregated data for each day in the date range
+     */
+    @Query("""
+            SELECT r.date AS date,
+                        COALESCE(SUM(r.expenseAmount), 0) AS expenses,
+                        COALESCE(SUM(r.incomeAmount), 0) AS income,
+                        SUM(r.transactionCount) AS transactionCount
+                        FROM TransactionDailyRollup r
+                        WHERE r.user.id = :userId
+                        AND r.date BETWEEN :startDate AND :endDate
+                        AND (:type IS NULL OR r.category.type = :type)
+                        GROUP BY r.date
+                        ORDER BY r.date
+            """)
+    List<TrendProjection> getDailyTrends(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("type") CategoryType type
+    );
+
+    /**
+     * Weekly trends using native query with DATE_TRUNC
+     * Returns aggregated data grouped by week (Monday-Sunday)
+     */
+    @Query(value = "SELECT " +
+            "CAST(DATE_TRUNC('week', r.date) AS DATE) AS date, " +
+            "COALESCE(SUM(r.expense_amount), 0) AS expenses, " +
+            "COALESCE(SUM(r.income_amount), 0) AS income, " +
+            "CAST(SUM(r.transaction_count) AS BIGINT) AS transactionCount " +
+            "FROM transaction_daily_rollups r " +
+            "JOIN categories c ON r.category_id = c.id " +
+            "WHERE r.user_id = :userId " +
+            "AND r.date BETWEEN :startDate AND :endDate " +
+            "AND (:type IS NULL OR c.type = CAST(:type AS VARCHAR)) " +
+            "GROUP BY DATE_TRUNC('week', r.date) " +
+            "ORDER BY DATE_TRUNC('week', r.date)",
+            nativeQuery = true)
+    List<TrendProjection> getWeeklyTrends(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("type") String type
+    );
+
+    /**
+     * Monthly trends using native query with DATE_TRUNC
+     * Returns aggregated data grouped by month
+     */
+    @Query(value = "SELECT " +
+            "CAST(DATE_TRUNC('month', r.date) AS DATE) AS date, " +
+            "COALESCE(SUM(r.expense_amount), 0) AS expenses, " +
+            "COALESCE(SUM(r.income_amount), 0) AS income, " +
+            "CAST(SUM(r.transaction_count) AS BIGINT) AS transactionCount " +
+            "FROM transaction_daily_rollups r " +
+            "JOIN categories c ON r.category_id = c.id " +
+            "WHERE r.user_id = :userId " +
+            "AND r.date BETWEEN :startDate AND :endDate " +
+            "AND (:type IS NULL OR c.type = CAST(:type AS VARCHAR)) " +
+            "GROUP BY DATE_TRUNC('month', r.date) " +
+            "ORDER BY DATE_TRUNC('month', r.date)",
+            nativeQuery = true)
+    List<TrendProjection> getMonthlyTrends(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("type") String type
+    );
+}
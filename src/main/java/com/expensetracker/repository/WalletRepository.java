@@ -2,9 +2,53 @@ package com.expensetracker.repository;
 
 import com.expensetracker.entity.Wallet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+
 @Repository
 public interface WalletRepository extends JpaRepository<Wallet, Long> {
 
+    /**
+     * Atomically add delta to the user's balance unless the result would be negative
+     * Returns the new balance, or empty when funds are insufficient
+     */
+    @Query(value = """
+            UPDATE wallets
+                        SET amount = amount + :delta,
+                        updated_at = CURRENT_TIMESTAMP
+                        WHERE user_id = :userId
+                        AND amount + :delta >= 0
+                        RETURNING amount
+            """, nativeQuery = true)
+    Optional<BigDecimal> addToBalanceIfSufficient(
+            @Param("userId") Long userId,
+            @Param("delta") BigDecimal delta
+    );
+
+    /**
+     * Atomically add a non-negative delta to the user's balance and return the new balance
+     * Withdrawals must go through addToBalanceIfSufficient: chk_wallet_amount_non_negative
+     * rejects a negative balance, which would surface here as a DataIntegrityViolationException
+     */
+    @Query(value = """
+            UPDATE wallets
+                        SET amount = amount + :delta,
+                        updated_at = CURRENT_TIMESTAMP
+                        WHERE user_id = :userId
+                        RETURNING amount
+            """, nativeQuery = true)
+    Optional<BigDecimal> addToBalance(
+            @Param("userId") Long userId,
+            @Param("delta") BigDecimal delta
+    );
+
+    /**
+     * Committed balance of the user's wallet, bypassing any Wallet already loaded in the persistence context
+     */
+    @Query("SELECT w.amount FROM Wallet w WHERE w.user.id = :userId")
+    Optional<BigDecimal> findAmountByUserId(@Param("userId") Long userId);
 }
@@ -15,6 +15,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -34,8 +35,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (StringUtils.hasText(jwt)) {
                 log.debug("JWT token found in request: {}", jwt.substring(0, Math.min(jwt.length(), 20)) + "...");
 
-                if (tokenProvider.validateToken(jwt)) {
-                    Long userId = tokenProvider.getUserIdFromToken(jwt);
+                Optional<VerifiedToken> verifiedToken = tokenProvider.verify(jwt);
+                if (verifiedToken.isPresent()) {
+                    Long userId = verifiedToken.get().userId();
                     log.debug("Valid JWT token for user ID: {}", userId);
 
                     UserDetails userDetails = customUserDetailsService.loadUserById(userId);
@@ -1,7 +1,11 @@
 package com.expensetracker.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,7 +14,13 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -25,11 +35,26 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long jwtRefreshExpiration;
 
+    @Value("${jwt.verified-token-cache-size:10000}")
+    private long verifiedTokenCacheSize;
+
     private SecretKey key;
 
+    // JwtParser is immutable and thread-safe, so one instance serves every request
+    private JwtParser parser;
+
+    private Cache<String, VerifiedToken> verifiedTokens;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -58,32 +83,67 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.parseLong(claims.getSubject());
-    }
+    /**
+     * Verify signature and expiry of a token and return its claims
+     * Tokens already verified are served from a cache keyed by their SHA-256 hash until they expire,
+     * so repeat requests with the same token skip the HMAC check and JSON decoding
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String tokenHash = sha256(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached);
+        }
 
-    public boolean validateToken(String authToken) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            VerifiedToken verified = new VerifiedToken(
+                    Long.parseLong(claims.getSubject()),
+                    claims.getExpiration().toInstant()
+            );
+            verifiedTokens.put(tokenHash, verified);
+            return Optional.of(verified);
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
             log.error("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token");
+        } catch (SecurityException ex) {
+            log.error("Invalid JWT signature");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * Evicts each verified token exactly when its exp claim is reached
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,36 @@
+package com.expensetracker.security;
+
+import com.expensetracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loader behind the "users" cache so entries can be refreshed ahead of expiry
+ * Keys mirror the @Cacheable keys of CustomUserDetailsService ('username:...' and 'id:...')
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheLoader implements CacheLoader<Object, Object> {
+
+    static final String USERNAME_PREFIX = "username:";
+    static final String ID_PREFIX = "id:";
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Object load(Object key) {
+        String cacheKey = key.toString();
+        if (cacheKey.startsWith(USERNAME_PREFIX)) {
+            return userRepository.findByUsernameWithWallet(cacheKey.substring(USERNAME_PREFIX.length()))
+                    .map(UserPrincipal::create)
+                    .orElse(null);
+        }
+        if (cacheKey.startsWith(ID_PREFIX)) {
+            return userRepository.findByIdWithWallet(Long.valueOf(cacheKey.substring(ID_PREFIX.length())))
+                    .map(UserPrincipal::create)
+                    .orElse(null);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.expensetracker.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have been checked
+ */
+public record VerifiedToken(
+        Long userId,
+        Instant expiresAt
+) {
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
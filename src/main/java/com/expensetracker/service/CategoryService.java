@@ -6,13 +6,16 @@ import com.expensetracker.dto.common.FilterRequest;
 import com.expensetracker.dto.common.PagedResponse;
 import com.expensetracker.dto.common.SortOrder;
 import com.expensetracker.entity.Category;
+import com.expensetracker.entity.CategoryType;
 import com.expensetracker.entity.User;
 import com.expensetracker.exception.BadRequestException;
 import com.expensetracker.exception.ResourceNotFoundException;
 import com.expensetracker.mapper.CategoryMapper;
 import com.expensetracker.repository.CategoryRepository;
+import com.expensetracker.repository.TransactionDailyRollupRepository;
 import com.expensetracker.repository.UserRepository;
 import com.expensetracker.security.UserPrincipal;
+import com.expensetracker.service.cache.UserDataVersions;
 import com.expensetracker.specification.SpecificationBuilder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -33,6 +36,8 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final TransactionDailyRollupRepository rollupRepository;
+    private final UserDataVersions userDataVersions;
     private final CategoryMapper categoryMapper;
 
     private Long getCurrentUserId() {
@@ -86,9 +91,17 @@ public class CategoryService {
             throw new BadRequestException("Category does not belong to current user");
         }
 
+        CategoryType oldType = category.getType();
         category.updateDetails(request.getName(), request.getDescription(), request.getType());
         category = categoryRepository.save(category);
 
+        // Rollup rows store amounts by type, so a type change moves the category's totals
+        if (oldType != category.getType()) {
+            rollupRepository.swapTypeTotals(category.getId());
+        }
+        // Names and types appear in cached statistics responses
+        userDataVersions.bumpAfterCommit(userId);
+
         return categoryMapper.toResponse(category);
     }
 
@@ -104,6 +117,7 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+        userDataVersions.bumpAfterCommit(userId);
     }
 
     /**
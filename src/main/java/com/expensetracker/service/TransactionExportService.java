@@ -0,0 +1,155 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.common.FilterRequest;
+import com.expensetracker.dto.common.SortOrder;
+import com.expensetracker.dto.transaction.TransactionResponse;
+import com.expensetracker.dto.transaction.export.ExportFormat;
+import com.expensetracker.entity.Category;
+import com.expensetracker.entity.Transaction;
+import com.expensetracker.security.UserPrincipal;
+import com.expensetracker.specification.SpecificationBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.stream.Stream;
+
+/**
+ * Streams a user's transactions matching a FilterRequest as CSV or NDJSON
+ * Rows are read as DTO projections through a server-side JDBC cursor, so nothing
+ * enters the persistence context and memory use is independent of the row count
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String CSV_HEADER = "id,amount,date,description,categoryId,categoryName,categoryType";
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    private Long getCurrentUserId() {
+        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder
+                .getContext().getAuthentication().getPrincipal();
+        return userPrincipal.getId();
+    }
+
+    /**
+     * Write every matching transaction to the writer; paging fields of the filter are ignored
+     * The read-only transaction keeps the cursor open while rows are written
+     */
+    @Transactional(readOnly = true)
+    public void export(FilterRequest filterRequest, ExportFormat format, Writer writer) throws IOException {
+        Long userId = getCurrentUserId();
+        Specification<Transaction> spec = SpecificationBuilder.build(filterRequest);
+        Specification<Transaction> userSpec = (root, query, cb) ->
+                cb.equal(root.get("user").get("id"), userId);
+        spec = spec == null ? userSpec : spec.and(userSpec);
+
+        String sortBy = filterRequest.getSortBy() != null && !filterRequest.getSortBy().isBlank()
+                ? filterRequest.getSortBy()
+                : "date";
+        Sort.Direction direction = filterRequest.getSortOrder() == SortOrder.ASC
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> cq = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> root = cq.from(Transaction.class);
+        Join<Transaction, Category> category = root.join("category", JoinType.LEFT);
+
+        cq.select(cb.construct(
+                        TransactionResponse.class,
+                        root.get("id"),
+                        root.get("amount"),
+                        root.get("date"),
+                        root.get("description"),
+                        category.get("id"),
+                        category.get("name"),
+                        category.get("type")
+                ))
+                .where(spec.toPredicate(root, cq, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TransactionResponse> rows = entityManager.createQuery(cq)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(row -> writeRow(row, format, writer));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeRow(TransactionResponse row, ExportFormat format, Writer writer) {
+        try {
+            switch (format) {
+                case CSV -> writeCsvRow(row, writer);
+                case NDJSON -> writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static void writeCsvRow(TransactionResponse row, Writer writer) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(row.amount().toPlainString());
+        writer.write(',');
+        writer.write(row.date().toString());
+        writer.write(',');
+        writer.write(csvField(row.description()));
+        writer.write(',');
+        writer.write(row.categoryId() != null ? row.categoryId().toString() : "");
+        writer.write(',');
+        writer.write(csvField(row.categoryName()));
+        writer.write(',');
+        writer.write(row.categoryType() != null ? row.categoryType().name() : "");
+    }
+
+    /**
+     * RFC 4180 quoting for free-text fields
+     * Values a spreadsheet would evaluate as a formula (leading =, +, -, @, tab or CR) are
+     * prefixed with a single quote, so they open as text
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,8 +1,12 @@
 package com.expensetracker.service;
 
 
+import com.expensetracker.dto.common.CountMode;
 import com.expensetracker.dto.common.FilterRequest;
 import com.expensetracker.dto.common.PagedResponse;
+import com.expensetracker.dto.common.PaginationMode;
+import com.expensetracker.dto.common.SearchCriteria;
+import com.expensetracker.dto.common.SortOrder;
 import com.expensetracker.dto.currency.CurrencyResponse;
 import com.expensetracker.dto.transaction.StatisticsSummaryProjection;
 import com.expensetracker.dto.transaction.TransactionRequest;
@@ -16,23 +20,31 @@ import com.expensetracker.exception.ResourceNotFoundException;
 import com.expensetracker.mapper.CurrencyMapper;
 import com.expensetracker.mapper.TransactionMapper;
 import com.expensetracker.repository.CategoryRepository;
+import com.expensetracker.repository.TransactionDailyRollupRepository;
 import com.expensetracker.repository.TransactionRepository;
 import com.expensetracker.repository.UserRepository;
 import com.expensetracker.repository.WalletRepository;
 import com.expensetracker.security.UserPrincipal;
+import com.expensetracker.service.cache.UserDataVersions;
+import com.expensetracker.specification.KeysetCursor;
 import com.expensetracker.specification.SpecificationBuilder;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaWindow;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +52,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -51,7 +64,24 @@ import static java.time.DayOfWeek.SUNDAY;
 @RequiredArgsConstructor
 public class TransactionService {
 
+    /**
+     * Non-null, directly mapped columns that can drive keyset pagination
+     */
+    private static final List<String> KEYSET_SORT_FIELDS = List.of("date", "amount", "createdAt", "updatedAt", "id");
+
+    /**
+     * sortBy value ordering by the rank of the CONTAINS_TEXT/FULL_TEXT criteria, best match first
+     */
+    private static final String RELEVANCE_SORT = "relevance";
+
+    /**
+     * Rows counted at most in CountMode.ESTIMATE; larger results report the cap as a lower bound
+     */
+    private static final int ESTIMATE_COUNT_CAP = 10_000;
+
     private final TransactionRepository transactionRepository;
+    private final TransactionDailyRollupRepository rollupRepository;
+    private final UserDataVersions userDataVersions;
     private final UserRepository userRepository;
     private final WalletRepository walletRepository;
     private final CategoryRepository categoryRepository;
@@ -84,11 +114,8 @@ public class TransactionService {
             throw new ResourceNotFoundException("Wallet not found for user");
         }
 
-        // Validate sufficient balance for expense transactions
-        if (category.getType() == EXPENSE && wallet.hasSufficientFunds(request.amount())) {
-            throw new BadRequestException("Insufficient balance. Current balance: " +
-                    wallet.getAmount() + " " + wallet.getCurrency().getCode());
-        }
+        // Expenses require sufficient balance, checked by the atomic wallet update
+        changeBalance(userId, wallet, Wallet.balanceChange(request.amount(), category.getType()));
 
         Transaction transaction = new Transaction(
                 request.amount(),
@@ -98,10 +125,8 @@ public class TransactionService {
                 category
         );
         transaction = transactionRepository.save(transaction);
-
-        // Apply transaction to wallet
-        wallet.applyTransaction(transaction.getAmount(), category.getType());
-        walletRepository.save(wallet);
+        addToRollup(userId, transaction.getDate(), category, transaction.getAmount());
+        userDataVersions.bumpAfterCommit(userId);
 
         return transactionMapper.toResponse(transaction);
     }
@@ -131,25 +156,25 @@ public class TransactionService {
         }
 
         BigDecimal oldAmount = transaction.getAmount();
-        CategoryType oldCategoryType = transaction.getCategory().getType();
+        LocalDate oldDate = transaction.getDate();
+        Category oldCategory = transaction.getCategory();
+        CategoryType oldCategoryType = oldCategory.getType();
 
-        // Revert old transaction effect
-        wallet.revertTransaction(oldAmount, oldCategoryType);
-
-        // Validate sufficient balance for new expense transaction
-        if (newCategory.getType() == EXPENSE && wallet.hasSufficientFunds(request.amount())) {
-            throw new BadRequestException("Insufficient balance. Current balance: " +
-                    wallet.getAmount() + " " + wallet.getCurrency().getCode());
-        }
-
-        // Apply new transaction effect
-        wallet.applyTransaction(request.amount(), newCategory.getType());
+        // Revert the old effect and apply the new one in a single balance change;
+        // the balance has to cover the net change when it is a withdrawal
+        BigDecimal balanceChange = Wallet.balanceChange(request.amount(), newCategory.getType())
+                .subtract(Wallet.balanceChange(oldAmount, oldCategoryType));
+        changeBalance(userId, wallet, balanceChange);
 
         // Update transaction details
         transaction.updateDetails(request.amount(), request.date(), request.description(), newCategory);
 
         transaction = transactionRepository.save(transaction);
-        walletRepository.save(wallet);
+
+        // Move the transaction's contribution between rollup rows
+        removeFromRollup(userId, oldDate, oldCategory, oldAmount);
+        addToRollup(userId, transaction.getDate(), newCategory, transaction.getAmount());
+        userDataVersions.bumpAfterCommit(userId);
 
         return transactionMapper.toResponse(transaction);
     }
@@ -178,9 +203,12 @@ public class TransactionService {
         if (wallet == null) {
             throw new ResourceNotFoundException("Wallet not found for user");
         }
-        wallet.revertTransaction(transaction.getAmount(), transaction.getCategory().getType());
+        // Deleting income withdraws it again, so the balance has to cover it
+        changeBalance(userId, wallet,
+                Wallet.balanceChange(transaction.getAmount(), transaction.getCategory().getType()).negate());
         transactionRepository.delete(transaction);
-        walletRepository.save(wallet);
+        removeFromRollup(userId, transaction.getDate(), transaction.getCategory(), transaction.getAmount());
+        userDataVersions.bumpAfterCommit(userId);
     }
 
     @Transactional(readOnly = true)
@@ -202,9 +230,9 @@ public class TransactionService {
         LocalDate monthStart = currentMonth.atDay(1);
         LocalDate monthEnd = currentMonth.atEndOfMonth();
 
-        // Single batched query with type-safe DTO projection (67% reduction in DB calls)
-        StatisticsSummaryProjection statistics = transactionRepository.getStatisticsSummary(
-                userId, today, weekStart, weekEnd, monthStart, monthEnd, EXPENSE
+        // Single batched query over the daily rollup with type-safe DTO projection
+        StatisticsSummaryProjection statistics = rollupRepository.getExpenseSummary(
+                userId, today, weekStart, weekEnd, monthStart, monthEnd
         );
 
         CurrencyResponse currencyResponse = currencyMapper.toResponse(wallet.getCurrency());
@@ -217,6 +245,53 @@ public class TransactionService {
         );
     }
 
+    /**
+     * Apply a balance change in one atomic UPDATE, so concurrent writes never lose each other's changes
+     * A withdrawal that would make the balance negative is rejected by the guarded update;
+     * the reported balance is re-read, since the loaded wallet may predate concurrent writes
+     */
+    private void changeBalance(Long userId, Wallet wallet, BigDecimal balanceChange) {
+        if (balanceChange.signum() >= 0) {
+            walletRepository.addToBalance(userId, balanceChange);
+            return;
+        }
+        if (walletRepository.addToBalanceIfSufficient(userId, balanceChange).isEmpty()) {
+            BigDecimal balance = walletRepository.findAmountByUserId(userId).orElse(BigDecimal.ZERO);
+            throw new BadRequestException("Insufficient balance. Current balance: " +
+                    balance + " " + wallet.getCurrency().getCode());
+        }
+    }
+
+    /**
+     * Add a transaction's contribution to the daily rollup row for its date and category
+     * Runs in the caller's transaction so statistics never diverge from the transactions table
+     */
+    private void addToRollup(Long userId, LocalDate date, Category category, BigDecimal amount) {
+        boolean expense = category.getType() == EXPENSE;
+        rollupRepository.addTransaction(
+                userId,
+                date,
+                category.getId(),
+                expense ? amount : BigDecimal.ZERO,
+                expense ? BigDecimal.ZERO : amount
+        );
+    }
+
+    /**
+     * Remove a transaction's contribution from the daily rollup, dropping the row once it is empty
+     */
+    private void removeFromRollup(Long userId, LocalDate date, Category category, BigDecimal amount) {
+        boolean expense = category.getType() == EXPENSE;
+        rollupRepository.removeTransaction(
+                userId,
+                date,
+                category.getId(),
+                expense ? amount : BigDecimal.ZERO,
+                expense ? BigDecimal.ZERO : amount
+        );
+        rollupRepository.deleteIfEmpty(userId, date, category.getId());
+    }
+
     /**
      * Generic search method using dynamic specifications
      * Can filter by any field using any operation
@@ -247,30 +322,309 @@ public class TransactionService {
         String sortBy = filterRequest.getSortBy() != null && !filterRequest.getSortBy().isBlank()
                 ? filterRequest.getSortBy()
                 : "date";
-        Sort.Direction direction = filterRequest.getSortOrder() != null && filterRequest.getSortOrder() == com.expensetracker.dto.common.SortOrder.ASC
-                ? Sort.Direction.ASC
-                : Sort.Direction.DESC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<Transaction> transactionPage = transactionRepository.findAll(spec, pageable);
-
-        List<TransactionResponse> transactionResponse = transactionPage.getContent()
-                .stream()
-                .map(transactionMapper::toResponse)
+        SortOrder sortOrder = filterRequest.getSortOrder() == SortOrder.ASC ? SortOrder.ASC : SortOrder.DESC;
+
+        if (filterRequest.getPaginationMode() == PaginationMode.KEYSET) {
+            PagedResponse<TransactionResponse> pagedResponse = searchPageByCursor(
+                    spec, sortBy, sortOrder, size, filterRequest.getCursor());
+            // A cursor page costs the same at any depth: the summary scans the whole filtered set,
+            // so it is opt-in and computed for the first page only
+            boolean firstPage = filterRequest.getCursor() == null || filterRequest.getCursor().isBlank();
+            TransactionSearchSummary summary = Boolean.TRUE.equals(filterRequest.getIncludeSummary()) && firstPage
+                    ? calculateSearchSummaryWithAggregation(spec)
+                    : null;
+            return TransactionSearchResponse.of(pagedResponse, summary);
+        }
+
+        // Summary totals scan the whole filtered set, so a non-exact count mode implies no summary
+        CountMode countMode = filterRequest.getCountMode() != null ? filterRequest.getCountMode() : CountMode.EXACT;
+        if (countMode != CountMode.EXACT && Boolean.TRUE.equals(filterRequest.getIncludeSummary())) {
+            throw new BadRequestException("includeSummary requires countMode EXACT");
+        }
+        boolean includeSummary = !Boolean.FALSE.equals(filterRequest.getIncludeSummary());
+
+        Sort sort;
+        List<SearchCriteria> relevanceCriteria = null;
+        if (RELEVANCE_SORT.equals(sortBy)) {
+            // Ties (and rows of equal rank) keep the default newest-first order
+            sort = Sort.by(Sort.Direction.DESC, "date", "id");
+            relevanceCriteria = filterRequest.getCriteria();
+        } else {
+            Sort.Direction direction = sortOrder == SortOrder.ASC ? Sort.Direction.ASC : Sort.Direction.DESC;
+            sort = Sort.by(direction, sortBy);
+        }
+
+        if (countMode != CountMode.EXACT) {
+            PagedResponse<TransactionResponse> pagedResponse = searchPageWithoutTotals(
+                    spec, sort, relevanceCriteria, page, size, countMode);
+            return TransactionSearchResponse.of(pagedResponse, null);
+        }
+        return searchPageWithTotals(spec, sort, relevanceCriteria, page, size, includeSummary);
+    }
+
+    /**
+     * Offset page, total count and summary totals in a single statement
+     * COUNT/SUM ... OVER () are evaluated over every matching row before OFFSET/LIMIT,
+     * so each returned row carries the totals of the whole filtered set
+     * With relevanceCriteria rows are ordered by the rank of their text criteria first, then by sort
+     */
+    private TransactionSearchResponse searchPageWithTotals(
+            Specification<Transaction> spec,
+            Sort sort,
+            List<SearchCriteria> relevanceCriteria,
+            int page,
+            int size,
+            boolean includeSummary
+    ) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Transaction> root = cq.from(Transaction.class);
+
+        JpaWindow allRows = cb.createWindow();
+        List<Selection<?>> selections = responseColumns(root);
+        selections.add(cb.count(root, allRows).alias("count"));
+        if (includeSummary) {
+            selections.add(cb.sum(amountOfType(cb, root, CategoryType.EXPENSE), allRows).alias("totalExpense"));
+            selections.add(cb.sum(amountOfType(cb, root, CategoryType.INCOME), allRows).alias("totalIncome"));
+        }
+
+        cq.multiselect(selections)
+                .where(spec.toPredicate(root, cq, cb))
+                .orderBy(searchOrder(sort, relevanceCriteria, root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(cq)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
+
+        List<TransactionResponse> transactionResponse = rows.stream()
+                .map(TransactionService::toResponse)
                 .collect(Collectors.toList());
 
-        // Calculate summary using efficient aggregation query (no entity loading)
-        TransactionSearchSummary summary = calculateSearchSummaryWithAggregation(spec);
+        long totalElements;
+        TransactionSearchSummary summary = null;
+        if (!rows.isEmpty()) {
+            Tuple first = rows.get(0);
+            totalElements = first.get("count", Long.class);
+            if (includeSummary) {
+                BigDecimal totalExpense = (BigDecimal) first.get("totalExpense");
+                BigDecimal totalIncome = (BigDecimal) first.get("totalIncome");
+                summary = new TransactionSearchSummary(
+                        totalExpense.add(totalIncome),
+                        totalElements,
+                        totalExpense,
+                        totalIncome
+                );
+            }
+        } else if (page > 0) {
+            // Page past the end: no row to carry the window totals, so aggregate separately
+            TransactionSearchSummary aggregated = calculateSearchSummaryWithAggregation(spec);
+            totalElements = aggregated.transactionCount();
+            summary = includeSummary ? aggregated : null;
+        } else {
+            totalElements = 0;
+            summary = includeSummary
+                    ? new TransactionSearchSummary(BigDecimal.ZERO, 0L, BigDecimal.ZERO, BigDecimal.ZERO)
+                    : null;
+        }
 
         PagedResponse<TransactionResponse> pagedResponse = PagedResponse.of(
                 transactionResponse,
-                transactionPage.getNumber(),
-                transactionPage.getSize(),
-                transactionPage.getTotalElements()
+                page,
+                size,
+                totalElements
         );
 
         return TransactionSearchResponse.of(pagedResponse, summary);
     }
 
+    /**
+     * Offset page without the window totals: one extra row decides hasNext, and in
+     * ESTIMATE mode a count stopping at ESTIMATE_COUNT_CAP rows stands in for the total
+     */
+    private PagedResponse<TransactionResponse> searchPageWithoutTotals(
+            Specification<Transaction> spec,
+            Sort sort,
+            List<SearchCriteria> relevanceCriteria,
+            int page,
+            int size,
+            CountMode countMode
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Transaction> root = cq.from(Transaction.class);
+
+        cq.multiselect(responseColumns(root))
+                .where(spec.toPredicate(root, cq, cb))
+                .orderBy(searchOrder(sort, relevanceCriteria, root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(cq)
+                .setFirstResult(page * size)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<TransactionResponse> content = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(TransactionService::toResponse)
+                .collect(Collectors.toList());
+
+        Long totalElements = null;
+        boolean capped = false;
+        if (countMode == CountMode.ESTIMATE) {
+            if (!hasNext && (!content.isEmpty() || page == 0)) {
+                // Last page: the total is known without counting
+                totalElements = (long) page * size + content.size();
+            } else {
+                long counted = countUpTo(spec, ESTIMATE_COUNT_CAP + 1);
+                capped = counted > ESTIMATE_COUNT_CAP;
+                totalElements = capped ? ESTIMATE_COUNT_CAP : counted;
+            }
+        }
+
+        return PagedResponse.ofUncounted(content, page, size, hasNext, totalElements, capped);
+    }
+
+    /**
+     * Number of matching rows, or limit when there are at least limit
+     * Both statements are bounded by limit rows in the database (index-only with
+     * idx_transactions_list_covering): a probe for the limit-th row returns at most one id,
+     * and only a set smaller than limit is then counted exactly
+     */
+    private long countUpTo(Specification<Transaction> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> probe = cb.createQuery(Long.class);
+        Root<Transaction> probeRoot = probe.from(Transaction.class);
+        probe.select(probeRoot.get("id")).where(spec.toPredicate(probeRoot, probe, cb));
+        boolean atLimit = !entityManager.createQuery(probe)
+                .setFirstResult(limit - 1)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+        if (atLimit) {
+            return limit;
+        }
+
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<Transaction> countRoot = count.from(Transaction.class);
+        count.select(cb.count(countRoot)).where(spec.toPredicate(countRoot, count, cb));
+        return entityManager.createQuery(count).getSingleResult();
+    }
+
+    private static List<Order> searchOrder(
+            Sort sort,
+            List<SearchCriteria> relevanceCriteria,
+            Root<Transaction> root,
+            CriteriaBuilder cb
+    ) {
+        List<Order> orders = new ArrayList<>();
+        if (relevanceCriteria != null) {
+            Expression<Double> relevance = SpecificationBuilder.relevance(relevanceCriteria, root, cb);
+            if (relevance == null) {
+                throw new BadRequestException("sortBy relevance requires a CONTAINS_TEXT or FULL_TEXT criterion");
+            }
+            orders.add(cb.desc(relevance));
+        }
+        orders.addAll(QueryUtils.toOrders(sort, root, cb));
+        return orders;
+    }
+
+    private static Expression<BigDecimal> amountOfType(CriteriaBuilder cb, Root<Transaction> root, CategoryType type) {
+        return cb.<BigDecimal>selectCase()
+                .when(cb.equal(root.get("category").get("type"), type), root.<BigDecimal>get("amount"))
+                .otherwise(BigDecimal.ZERO);
+    }
+
+    /**
+     * Keyset page: seeks past the cursor's (sortBy, id) tuple instead of skipping OFFSET rows,
+     * so with idx_transactions_user_date a deep page costs the same as the first one
+     * Fetches one extra row to detect the next page, so no COUNT query runs
+     */
+    private PagedResponse<TransactionResponse> searchPageByCursor(
+            Specification<Transaction> spec,
+            String sortBy,
+            SortOrder sortOrder,
+            int size,
+            String cursorToken
+    ) {
+        if (!KEYSET_SORT_FIELDS.contains(sortBy)) {
+            throw new BadRequestException("Keyset pagination supports sortBy: " + String.join(", ", KEYSET_SORT_FIELDS));
+        }
+
+        boolean firstPage = cursorToken == null || cursorToken.isBlank();
+        if (!firstPage) {
+            KeysetCursor cursor = KeysetCursor.decode(cursorToken);
+            cursor.verifyMatches(sortBy, sortOrder);
+            spec = spec.and(SpecificationBuilder.keysetAfter(cursor));
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Transaction> root = cq.from(Transaction.class);
+
+        List<Selection<?>> selections = responseColumns(root);
+        selections.add(root.get(sortBy).alias("sortKey"));
+        cq.multiselect(selections).where(spec.toPredicate(root, cq, cb));
+        if (sortOrder == SortOrder.ASC) {
+            cq.orderBy(cb.asc(root.get(sortBy)), cb.asc(root.get("id")));
+        } else {
+            cq.orderBy(cb.desc(root.get(sortBy)), cb.desc(root.get("id")));
+        }
+
+        List<Tuple> rows = entityManager.createQuery(cq)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(sortBy, sortOrder, keysetValue(last.get("sortKey")),
+                    last.get("id", Long.class)).encode();
+        }
+
+        List<TransactionResponse> content = pageRows.stream()
+                .map(TransactionService::toResponse)
+                .collect(Collectors.toList());
+
+        return PagedResponse.ofCursor(content, size, firstPage, nextCursor);
+    }
+
+    private static String keysetValue(Object sortKey) {
+        return sortKey instanceof BigDecimal amount ? amount.toPlainString() : sortKey.toString();
+    }
+
+    /**
+     * TransactionResponse columns: transactions columns covered by idx_transactions_list_covering
+     * plus the category, so search never hydrates entities or joins users
+     */
+    private static List<Selection<?>> responseColumns(Root<Transaction> root) {
+        Join<Transaction, Category> category = root.join("category", JoinType.LEFT);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias("id"));
+        selections.add(root.get("amount").alias("amount"));
+        selections.add(root.get("date").alias("date"));
+        selections.add(root.get("description").alias("description"));
+        selections.add(category.get("id").alias("categoryId"));
+        selections.add(category.get("name").alias("categoryName"));
+        selections.add(category.get("type").alias("categoryType"));
+        return selections;
+    }
+
+    private static TransactionResponse toResponse(Tuple row) {
+        return new TransactionResponse(
+                row.get("id", Long.class),
+                row.get("amount", BigDecimal.class),
+                row.get("date", LocalDate.class),
+                row.get("description", String.class),
+                row.get("categoryId", Long.class),
+                row.get("categoryName", String.class),
+                row.get("categoryType", CategoryType.class)
+        );
+    }
+
     /**
      * Calculate summary using JPA Criteria API aggregation (efficient - no entity loading)
      * Uses a single aggregation query instead of loading all entities
@@ -285,18 +639,10 @@ public class TransactionService {
 
         // Build aggregation query
         cq.multiselect(
-                cb.coalesce(cb.sum(
-                        cb.<BigDecimal>selectCase()
-                                .when(cb.equal(root.get("category").get("type"), CategoryType.EXPENSE),
-                                        root.get("amount"))
-                                .otherwise(BigDecimal.ZERO)
-                ), BigDecimal.ZERO).alias("totalExpense"),
-                cb.coalesce(cb.sum(
-                        cb.<BigDecimal>selectCase()
-                                .when(cb.equal(root.get("category").get("type"), CategoryType.INCOME),
-                                        root.get("amount"))
-                                .otherwise(BigDecimal.ZERO)
-                ), BigDecimal.ZERO).alias("totalIncome"),
+                cb.coalesce(cb.sum(amountOfType(cb, root, CategoryType.EXPENSE)), BigDecimal.ZERO)
+                        .alias("totalExpense"),
+                cb.coalesce(cb.sum(amountOfType(cb, root, CategoryType.INCOME)), BigDecimal.ZERO)
+                        .alias("totalIncome"),
                 cb.count(root).alias("count")
         ).where(predicate);
 
@@ -8,15 +8,15 @@ import com.expensetracker.entity.Wallet;
 import com.expensetracker.exception.BadRequestException;
 import com.expensetracker.exception.ResourceNotFoundException;
 import com.expensetracker.mapper.CurrencyMapper;
-import com.expensetracker.repository.TransactionRepository;
+import com.expensetracker.repository.TransactionDailyRollupRepository;
 import com.expensetracker.repository.UserRepository;
 import com.expensetracker.security.UserPrincipal;
+import com.expensetracker.service.cache.StatisticsCache;
 import com.expensetracker.service.util.DateRangeCalculator;
 import com.expensetracker.service.util.DateRangeCalculator.DateRange;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -24,18 +24,33 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Statistics endpoints backed by the transaction_daily_rollups table
+ * Every query aggregates pre-summed daily rows, so cost scales with the number
+ * of days in the requested range rather than the number of transactions
+ *
+ * Responses are cached per user in StatisticsCache and invalidated by any write
+ * to the user's transactions, categories or wallet currency
+ */
 @Service
 @RequiredArgsConstructor
 public class TransactionStatisticsService {
 
-    private final TransactionRepository transactionRepository;
+    private static final int TOP_CATEGORIES_LIMIT = 5;
+    private static final BigDecimal ZERO_AMOUNT = BigDecimal.ZERO.setScale(2);
+
+    private final TransactionDailyRollupRepository rollupRepository;
     private final UserRepository userRepository;
     private final CurrencyMapper currencyMapper;
     private final DateRangeCalculator dateRangeCalculator;
+    private final StatisticsCache statisticsCache;
 
     private Long getCurrentUserId() {
         UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder
@@ -43,29 +58,24 @@ public class TransactionStatisticsService {
         return userPrincipal.getId();
     }
 
-    @Transactional(readOnly = true)
     public TransactionOverviewResponse getOverview() {
         Long userId = getCurrentUserId();
-        User user = userRepository.findByIdWithWallet(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        Wallet wallet = user.getWallet();
-        if (wallet == null) {
-            throw new ResourceNotFoundException("Wallet not found for user");
-        }
-
         LocalDate today = LocalDate.now();
+        return statisticsCache.get(userId, "overview", () -> loadOverview(userId, today), today);
+    }
+
+    private TransactionOverviewResponse loadOverview(Long userId, LocalDate today) {
         LocalDate weekStart = today.with(DayOfWeek.MONDAY);
         LocalDate weekEnd = today.with(DayOfWeek.SUNDAY);
-        YearMonth currentMonth = YearMonth.now();
+        YearMonth currentMonth = YearMonth.from(today);
         LocalDate monthStart = currentMonth.atDay(1);
         LocalDate monthEnd = currentMonth.atEndOfMonth();
 
-        OverviewProjection statistics = transactionRepository.getOverviewStatistics(
+        OverviewProjection statistics = rollupRepository.getOverviewStatistics(
                 userId, today, weekStart, weekEnd, monthStart, monthEnd
         );
 
-        CurrencyResponse currencyResponse = currencyMapper.toResponse(wallet.getCurrency());
+        CurrencyResponse currencyResponse = loadWalletCurrency(userId);
 
         return new TransactionOverviewResponse(
                 statistics.todayExpenses(),
@@ -78,24 +88,26 @@ public class TransactionStatisticsService {
         );
     }
 
-    @Transactional(readOnly = true)
     public TransactionSummaryResponse getSummary(
             StatisticsPeriod period,
             Boolean compareWithPrevious
     ) {
         Long userId = getCurrentUserId();
-        User user = userRepository.findByIdWithWallet(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        Wallet wallet = user.getWallet();
-        if (wallet == null) {
-            throw new ResourceNotFoundException("Wallet not found for user");
-        }
-
         DateRange currentRange = dateRangeCalculator.calculateRange(period);
-        RangeProjection currentStats = transactionRepository.getRangeStatistics(
-                userId, currentRange.startDate(), currentRange.endDate(), null
-        );
+        boolean compare = Boolean.TRUE.equals(compareWithPrevious);
+        return statisticsCache.get(userId, "summary",
+                () -> loadSummary(userId, period, currentRange, compare),
+                period, currentRange, compare);
+    }
+
+    private TransactionSummaryResponse loadSummary(
+            Long userId,
+            StatisticsPeriod period,
+            DateRange currentRange,
+            boolean compareWithPrevious
+    ) {
+        List<PeriodCategoryProjection> periodTotals = queryPeriodTotals(userId, currentRange, compareWithPrevious, null);
+        RangeProjection currentStats = currentTotals(periodTotals);
 
         long daysCount = currentRange.getDaysCount();
         BigDecimal averageExpensePerDay = daysCount > 0
@@ -111,20 +123,16 @@ public class TransactionStatisticsService {
         BigDecimal netAmount = currentStats.totalIncome().subtract(currentStats.totalExpenses());
 
         PeriodComparisonData comparison = null;
-        if (Boolean.TRUE.equals(compareWithPrevious)) {
-            DateRange previousRange = dateRangeCalculator.calculatePreviousRange(currentRange);
-            RangeProjection previousStats = transactionRepository.getRangeStatistics(
-                    userId, previousRange.startDate(), previousRange.endDate(), null
-            );
+        if (compareWithPrevious) {
             comparison = calculateComparison(
                     currentStats.totalExpenses(),
                     currentStats.totalIncome(),
-                    previousStats.totalExpenses(),
-                    previousStats.totalIncome()
+                    sumOf(periodTotals, PeriodCategoryProjection::previousExpenses),
+                    sumOf(periodTotals, PeriodCategoryProjection::previousIncome)
             );
         }
 
-        CurrencyResponse currencyResponse = currencyMapper.toResponse(wallet.getCurrency());
+        CurrencyResponse currencyResponse = loadWalletCurrency(userId);
 
         return new TransactionSummaryResponse(
                 period.name(),
@@ -142,7 +150,6 @@ public class TransactionStatisticsService {
         );
     }
 
-    @Transactional(readOnly = true)
     public RangeStatisticsResponse getRangeStatistics(
             LocalDate startDate,
             LocalDate endDate,
@@ -150,18 +157,22 @@ public class TransactionStatisticsService {
             Boolean compareWithPrevious
     ) {
         Long userId = getCurrentUserId();
-        User user = userRepository.findByIdWithWallet(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        Wallet wallet = user.getWallet();
-        if (wallet == null) {
-            throw new ResourceNotFoundException("Wallet not found for user");
-        }
+        boolean compare = Boolean.TRUE.equals(compareWithPrevious);
+        return statisticsCache.get(userId, "range",
+                () -> loadRangeStatistics(userId, startDate, endDate, type, compare),
+                startDate, endDate, type, compare);
+    }
 
+    private RangeStatisticsResponse loadRangeStatistics(
+            Long userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            CategoryType type,
+            boolean compareWithPrevious
+    ) {
         DateRange range = new DateRange(startDate, endDate);
-        RangeProjection currentStats = transactionRepository.getRangeStatistics(
-                userId, startDate, endDate, type
-        );
+        List<PeriodCategoryProjection> periodTotals = queryPeriodTotals(userId, range, compareWithPrevious, type);
+        RangeProjection currentStats = currentTotals(periodTotals);
 
         long daysCount = range.getDaysCount();
         BigDecimal totalAmount = currentStats.totalExpenses().add(currentStats.totalIncome());
@@ -170,30 +181,27 @@ public class TransactionStatisticsService {
                 : BigDecimal.ZERO;
         BigDecimal netAmount = currentStats.totalIncome().subtract(currentStats.totalExpenses());
 
-        // Get top 5 categories
-        List<CategoryBreakdownProjection> categoryProjections = transactionRepository.getCategoryBreakdown(
-                userId, startDate, endDate, type
-        );
+        // Top categories of the current period, from the same per-category totals
         List<CategoryBreakdownItem> topCategories = buildCategoryBreakdown(
-                categoryProjections.stream().limit(5).collect(Collectors.toList()),
+                periodTotals.stream()
+                        .filter(projection -> projection.currentTransactionCount() > 0)
+                        .sorted(Comparator.comparing(PeriodCategoryProjection::getAmount).reversed())
+                        .limit(TOP_CATEGORIES_LIMIT)
+                        .collect(Collectors.toList()),
                 totalAmount
         );
 
         PeriodComparisonData comparison = null;
-        if (Boolean.TRUE.equals(compareWithPrevious)) {
-            DateRange previousRange = dateRangeCalculator.calculatePreviousRange(range);
-            RangeProjection previousStats = transactionRepository.getRangeStatistics(
-                    userId, previousRange.startDate(), previousRange.endDate(), type
-            );
+        if (compareWithPrevious) {
             comparison = calculateComparison(
                     currentStats.totalExpenses(),
                     currentStats.totalIncome(),
-                    previousStats.totalExpenses(),
-                    previousStats.totalIncome()
+                    sumOf(periodTotals, PeriodCategoryProjection::previousExpenses),
+                    sumOf(periodTotals, PeriodCategoryProjection::previousIncome)
             );
         }
 
-        CurrencyResponse currencyResponse = currencyMapper.toResponse(wallet.getCurrency());
+        CurrencyResponse currencyResponse = loadWalletCurrency(userId);
 
         return new RangeStatisticsResponse(
                 startDate,
@@ -210,7 +218,6 @@ public class TransactionStatisticsService {
         );
     }
 
-    @Transactional(readOnly = true)
     public CategoryStatisticsResponse getCategoryStatistics(
             StatisticsPeriod period,
             LocalDate startDate,
@@ -219,13 +226,6 @@ public class TransactionStatisticsService {
             BigDecimal minPercentage
     ) {
         Long userId = getCurrentUserId();
-        User user = userRepository.findByIdWithWallet(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        Wallet wallet = user.getWallet();
-        if (wallet == null) {
-            throw new ResourceNotFoundException("Wallet not found for user");
-        }
 
         DateRange range;
         if (period == StatisticsPeriod.CUSTOM) {
@@ -235,13 +235,28 @@ public class TransactionStatisticsService {
             range = new DateRange(startDate, endDate);
         } else {
             range = dateRangeCalculator.calculateRange(period);
-            startDate = range.startDate();
-            endDate = range.endDate();
         }
 
-        List<CategoryBreakdownProjection> categoryProjections = transactionRepository.getCategoryBreakdown(
-                userId, startDate, endDate, type
-        );
+        // 5, 5.0 and 5.00 filter identically, as do null, zero and negative thresholds
+        BigDecimal threshold = minPercentage != null && minPercentage.compareTo(BigDecimal.ZERO) > 0
+                ? minPercentage.stripTrailingZeros()
+                : null;
+
+        return statisticsCache.get(userId, "categories",
+                () -> loadCategoryStatistics(userId, period, range.startDate(), range.endDate(), type, threshold),
+                period, range, type, threshold);
+    }
+
+    private CategoryStatisticsResponse loadCategoryStatistics(
+            Long userId,
+            StatisticsPeriod period,
+            LocalDate startDate,
+            LocalDate endDate,
+            CategoryType type,
+            BigDecimal minPercentage
+    ) {
+        List<CategoryBreakdownProjection> categoryProjections =
+                rollupRepository.getCategoryBreakdown(userId, startDate, endDate, type);
 
         BigDecimal totalAmount = categoryProjections.stream()
                 .map(CategoryBreakdownProjection::getAmount)
@@ -254,13 +269,13 @@ public class TransactionStatisticsService {
         List<CategoryBreakdownItem> categories = buildCategoryBreakdown(categoryProjections, totalAmount);
 
         // Filter by minimum percentage if provided
-        if (minPercentage != null && minPercentage.compareTo(BigDecimal.ZERO) > 0) {
+        if (minPercentage != null) {
             categories = categories.stream()
                     .filter(item -> item.percentage().compareTo(minPercentage) >= 0)
                     .collect(Collectors.toList());
         }
 
-        CurrencyResponse currencyResponse = currencyMapper.toResponse(wallet.getCurrency());
+        CurrencyResponse currencyResponse = loadWalletCurrency(userId);
 
         return new CategoryStatisticsResponse(
                 period.name(),
@@ -273,7 +288,6 @@ public class TransactionStatisticsService {
         );
     }
 
-    @Transactional(readOnly = true)
     public TrendsResponse getTrends(
             LocalDate startDate,
             LocalDate endDate,
@@ -281,6 +295,34 @@ public class TransactionStatisticsService {
             CategoryType type
     ) {
         Long userId = getCurrentUserId();
+        return statisticsCache.get(userId, "trends",
+                () -> loadTrends(userId, startDate, endDate, groupBy, type),
+                startDate, endDate, groupBy, type);
+    }
+
+    private TrendsResponse loadTrends(
+            Long userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            TrendGrouping groupBy,
+            CategoryType type
+    ) {
+        List<TrendProjection> trendProjections = queryTrends(userId, startDate, endDate, groupBy, type);
+
+        List<TrendDataPoint> dataPoints = fillTrendBuckets(trendProjections, startDate, endDate, groupBy);
+
+        CurrencyResponse currencyResponse = loadWalletCurrency(userId);
+
+        return new TrendsResponse(
+                startDate,
+                endDate,
+                groupBy.name(),
+                dataPoints,
+                currencyResponse
+        );
+    }
+
+    private CurrencyResponse loadWalletCurrency(Long userId) {
         User user = userRepository.findByIdWithWallet(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
@@ -289,54 +331,99 @@ public class TransactionStatisticsService {
             throw new ResourceNotFoundException("Wallet not found for user");
         }
 
-        List<TrendProjection> trendProjections;
+        return currencyMapper.toResponse(wallet.getCurrency());
+    }
+
+    /**
+     * Per-category totals of the range and, when comparing, of the previous range in a single query
+     */
+    private List<PeriodCategoryProjection> queryPeriodTotals(
+            Long userId,
+            DateRange currentRange,
+            boolean compareWithPrevious,
+            CategoryType type
+    ) {
+        LocalDate windowStart = compareWithPrevious
+                ? dateRangeCalculator.calculatePreviousRange(currentRange).startDate()
+                : currentRange.startDate();
+        return rollupRepository.getPeriodCategoryTotals(
+                userId, windowStart, currentRange.startDate(), currentRange.endDate(), type
+        );
+    }
+
+    private RangeProjection currentTotals(List<PeriodCategoryProjection> periodTotals) {
+        return new RangeProjection(
+                sumOf(periodTotals, PeriodCategoryProjection::currentExpenses),
+                sumOf(periodTotals, PeriodCategoryProjection::currentIncome),
+                periodTotals.stream().mapToLong(PeriodCategoryProjection::currentTransactionCount).sum()
+        );
+    }
+
+    private static BigDecimal sumOf(
+            List<PeriodCategoryProjection> periodTotals,
+            Function<PeriodCategoryProjection, BigDecimal> amount
+    ) {
+        return periodTotals.stream().map(amount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private List<TrendProjection> queryTrends(
+            Long userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            TrendGrouping groupBy,
+            CategoryType type
+    ) {
         String typeParam = type != null ? type.name() : null;
 
-        switch (groupBy) {
-            case DAY:
-                trendProjections = transactionRepository.getDailyTrends(
-                        userId, startDate, endDate, type
-                );
-                break;
-            case WEEK:
-                trendProjections = transactionRepository.getWeeklyTrends(
-                        userId, startDate, endDate, typeParam
-                );
-                break;
-            case MONTH:
-                trendProjections = transactionRepository.getMonthlyTrends(
-                        userId, startDate, endDate, typeParam
-                );
-                break;
-            default:
-                throw new BadRequestException("Unsupported groupBy value: " + groupBy);
-        }
+        return switch (groupBy) {
+            case DAY -> rollupRepository.getDailyTrends(userId, startDate, endDate, type);
+            case WEEK -> rollupRepository.getWeeklyTrends(userId, startDate, endDate, typeParam);
+            case MONTH -> rollupRepository.getMonthlyTrends(userId, startDate, endDate, typeParam);
+        };
+    }
 
-        List<TrendDataPoint> dataPoints = trendProjections.stream()
-                .map(projection -> {
-                    BigDecimal netAmount = projection.getIncome().subtract(projection.getExpenses());
-                    return new TrendDataPoint(
-                            projection.getDate(),
-                            projection.getExpenses(),
-                            projection.getIncome(),
-                            netAmount,
-                            projection.getTransactionCount()
-                    );
-                })
-                .collect(Collectors.toList());
+    /**
+     * Merge the sparse per-bucket rows into every bucket of the range, zero-filling empty ones
+     * Bucket boundaries follow DateRangeCalculator.generateBuckets, so each point is dated by its bucket start
+     */
+    private List<TrendDataPoint> fillTrendBuckets(
+            List<TrendProjection> trendProjections,
+            LocalDate startDate,
+            LocalDate endDate,
+            TrendGrouping groupBy
+    ) {
+        List<DateRange> buckets = dateRangeCalculator.generateBuckets(startDate, endDate, groupBy);
+
+        // Row of trendProjections for each bucket ordinal, -1 where the bucket has no data
+        int[] rowByBucket = new int[buckets.size()];
+        Arrays.fill(rowByBucket, -1);
+        for (int row = 0; row < trendProjections.size(); row++) {
+            int bucket = dateRangeCalculator.bucketIndex(startDate, trendProjections.get(row).getDate(), groupBy);
+            rowByBucket[bucket] = row;
+        }
 
-        CurrencyResponse currencyResponse = currencyMapper.toResponse(wallet.getCurrency());
+        List<TrendDataPoint> dataPoints = new ArrayList<>(buckets.size());
+        for (int bucket = 0; bucket < buckets.size(); bucket++) {
+            LocalDate bucketStart = buckets.get(bucket).startDate();
+            int row = rowByBucket[bucket];
+            if (row < 0) {
+                dataPoints.add(new TrendDataPoint(bucketStart, ZERO_AMOUNT, ZERO_AMOUNT, ZERO_AMOUNT, 0L));
+                continue;
+            }
 
-        return new TrendsResponse(
-                startDate,
-                endDate,
-                groupBy.name(),
-                dataPoints,
-                currencyResponse
-        );
+            TrendProjection projection = trendProjections.get(row);
+            dataPoints.add(new TrendDataPoint(
+                    bucketStart,
+                    projection.getExpenses(),
+                    projection.getIncome(),
+                    projection.getIncome().subtract(projection.getExpenses()),
+                    projection.getTransactionCount()
+            ));
+        }
+        return dataPoints;
     }
 
-    private PeriodComparisonData calculateComparison(
+    static PeriodComparisonData calculateComparison(
             BigDecimal currentExpenses,
             BigDecimal currentIncome,
             BigDecimal previousExpenses,
@@ -371,7 +458,7 @@ public class TransactionStatisticsService {
         );
     }
 
-    private List<CategoryBreakdownItem> buildCategoryBreakdown(
+    static List<CategoryBreakdownItem> buildCategoryBreakdown(
             List<CategoryBreakdownProjection> projections,
             BigDecimal totalAmount
     ) {
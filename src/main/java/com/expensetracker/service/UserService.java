@@ -12,6 +12,7 @@ import com.expensetracker.repository.CurrencyRepository;
 import com.expensetracker.repository.UserRepository;
 import com.expensetracker.repository.WalletRepository;
 import com.expensetracker.security.UserPrincipal;
+import com.expensetracker.service.cache.UserDataVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,7 @@ public class UserService {
     private final WalletRepository walletRepository;
     private final CurrencyRepository currencyRepository;
     private final CurrencyMapper currencyMapper;
+    private final UserDataVersions userDataVersions;
 
     private Long getCurrentUserId() {
         UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext()
@@ -72,6 +74,8 @@ public class UserService {
         // Use rich domain model - wallet handles currency change
         wallet.changeCurrency(currency);
         walletRepository.save(wallet);
+        // Cached statistics responses embed the wallet currency
+        userDataVersions.bumpAfterCommit(userId);
 
         return new UserProfileResponse(
                 user.getId(),
@@ -0,0 +1,66 @@
+package com.expensetracker.service.cache;
+
+import com.expensetracker.config.PrimaryReads;
+import com.expensetracker.security.UserPrincipal;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Strong ETags derived from data versions instead of response bodies
+ * A user's ETag changes whenever UserDataVersions is bumped (transaction, category and wallet writes),
+ * so an If-None-Match match is answered with 304 before the body supplier, and any repository query, runs.
+ * User bodies are read from the primary, so a lagging replica cannot pair pre-write data with a new ETag.
+ * Versions live in this instance's memory, so ETags embed an instance id and never match across instances
+ */
+@Component
+public class DataVersionETags {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final UserDataVersions userDataVersions;
+
+    public DataVersionETags(UserDataVersions userDataVersions) {
+        this.userDataVersions = userDataVersions;
+    }
+
+    /**
+     * 304 when the request's If-None-Match carries the current user's ETag for this resource, else 200 with the body
+     * Parameters must include everything the body depends on besides the user's data (query values, today's date)
+     */
+    public <T> ResponseEntity<T> forCurrentUser(WebRequest request, Supplier<T> body, String resource, Object... parameters) {
+        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext()
+                .getAuthentication().getPrincipal();
+        Long userId = userPrincipal.getId();
+        // Read the version before loading, so a write committed meanwhile yields a new ETag next time
+        String etag = etag(userId + "|" + userDataVersions.current(userId) + "|" + resource + "|" + Arrays.asList(parameters));
+        return conditional(request, etag, () -> PrimaryReads.call(body), REVALIDATE.cachePrivate());
+    }
+
+    /**
+     * Same for reference data that only changes with a deployment (migrations), shared by all users
+     */
+    public <T> ResponseEntity<T> forStaticResource(WebRequest request, Supplier<T> body, String resource) {
+        return conditional(request, etag(resource), body, REVALIDATE);
+    }
+
+    private <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body, CacheControl cacheControl) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+
+    private String etag(String key) {
+        return "\"" + UUID.nameUUIDFromBytes((instanceId + "|" + key).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
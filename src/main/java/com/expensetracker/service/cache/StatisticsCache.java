@@ -0,0 +1,112 @@
+package com.expensetracker.service.cache;
+
+import com.expensetracker.config.PrimaryReads;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Result cache for statistics responses, keyed by (userId, data generation, endpoint, parameters)
+ * A hit is served without opening a transaction or touching the connection pool;
+ * a miss computes the response inside a single read-only transaction on the primary,
+ * since a lagging replica could return pre-write data for the current generation
+ *
+ * Concurrent misses for the same key share one load: the first caller computes it,
+ * the others wait on its in-flight future instead of running the same queries again
+ */
+@Component
+public class StatisticsCache {
+
+    public static final String CACHE_NAME = "statistics";
+
+    private final Cache cache;
+    private final UserDataVersions userDataVersions;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ConcurrentMap<StatisticsKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public StatisticsCache(
+            CacheManager cacheManager,
+            UserDataVersions userDataVersions,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        if (this.cache == null) {
+            throw new IllegalStateException("No cache spec configured for '" + CACHE_NAME + "'");
+        }
+        this.userDataVersions = userDataVersions;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Return the cached response or compute and cache it
+     * Parameters must already be normalized (resolved dates, defaults applied) so equal requests share an entry
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, String endpoint, Supplier<T> loader, Object... parameters) {
+        // Read the generation before loading, so a write committed meanwhile invalidates this entry
+        StatisticsKey key = new StatisticsKey(
+                userId,
+                userDataVersions.current(userId),
+                endpoint,
+                Arrays.asList(parameters)
+        );
+
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+
+        // Load outside Caffeine's compute lock: blocking inside its synchronized
+        // section would pin a virtual thread to its carrier
+        try {
+            T response = PrimaryReads.call(() -> readOnlyTransaction.execute(status -> loader.get()));
+            cache.put(key, response);
+            load.complete(response);
+            return response;
+        } catch (RuntimeException | Error ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Wait for another caller's load, rethrowing its exception unchanged (e.g. ResourceNotFoundException)
+     */
+    private static Object await(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record StatisticsKey(
+            Long userId,
+            long generation,
+            String endpoint,
+            List<Object> parameters
+    ) {
+    }
+}
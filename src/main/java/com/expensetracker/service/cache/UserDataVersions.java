@@ -0,0 +1,54 @@
+package com.expensetracker.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user generation counter for data that derived caches depend on
+ * Cache keys embed the current generation, so bumping it invalidates every
+ * entry of that user at once without scanning keys
+ *
+ * Generations are drawn from one global sequence: a user whose counter was
+ * evicted is re-seeded with a value no earlier key of theirs can carry
+ */
+@Component
+public class UserDataVersions {
+
+    private static final long MAX_TRACKED_USERS = 100_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Cache<Long, Long> versions = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_USERS)
+            .build();
+
+    public long current(Long userId) {
+        return versions.get(userId, id -> sequence.incrementAndGet());
+    }
+
+    /**
+     * Invalidate the user's derived data once the surrounding transaction commits
+     * Bumping earlier would let a concurrent reader re-cache pre-commit data under the new generation
+     */
+    public void bumpAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(userId);
+                }
+            });
+        } else {
+            bump(userId);
+        }
+    }
+
+    private void bump(Long userId) {
+        versions.put(userId, sequence.incrementAndGet());
+    }
+}
@@ -0,0 +1,48 @@
+package com.expensetracker.service.maintenance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Year;
+
+/**
+ * Creates yearly transactions partitions ahead of time (see V28 migration)
+ * Runs on startup and daily; ensure_transactions_partition is idempotent and
+ * serialized in the database, so every instance may run it
+ */
+@Slf4j
+@Component
+public class TransactionPartitionMaintenance {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int yearsAhead;
+
+    public TransactionPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.partitions.years-ahead:1}") int yearsAhead
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.yearsAhead = yearsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.maintenance-cron:0 0 3 * * *}")
+    @Transactional
+    public void ensureUpcomingPartitions() {
+        int currentYear = Year.now().getValue();
+        for (int year = currentYear; year <= currentYear + yearsAhead; year++) {
+            Boolean created = jdbcTemplate.queryForObject(
+                    "SELECT ensure_transactions_partition(?)", Boolean.class, year
+            );
+            if (Boolean.TRUE.equals(created)) {
+                log.info("Created transactions partition for {}", year);
+            }
+        }
+    }
+}
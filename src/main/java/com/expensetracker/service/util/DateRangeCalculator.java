@@ -41,8 +41,6 @@ public class DateRangeCalculator {
             LocalDate end,
             TrendGrouping groupBy
     ) {
-        List<DateRange> buckets = new ArrayList<>();
-
         return switch (groupBy) {
             case DAY -> generateDailyBuckets(start, end);
             case WEEK -> generateWeeklyBuckets(start, end);
@@ -50,6 +48,20 @@ public class DateRangeCalculator {
         };
     }
 
+    /**
+     * Position of the bucket containing date within generateBuckets(start, end, groupBy)
+     * Weekly buckets start on the Monday on or before start; monthly ordinals count calendar months
+     */
+    public int bucketIndex(LocalDate start, LocalDate date, TrendGrouping groupBy) {
+        long index = switch (groupBy) {
+            case DAY -> ChronoUnit.DAYS.between(start, date);
+            case WEEK -> ChronoUnit.WEEKS.between(
+                    start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), date);
+            case MONTH -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(date));
+        };
+        return Math.toIntExact(index);
+    }
+
     private List<DateRange> generateDailyBuckets(LocalDate start, LocalDate end) {
         List<DateRange> buckets = new ArrayList<>();
         LocalDate current = start;
@@ -0,0 +1,39 @@
+package com.expensetracker.specification;
+
+import com.expensetracker.dto.common.SearchOperation;
+import com.expensetracker.exception.BadRequestException;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Value-independent part of a search criterion: the operation and the resolved field path
+ * Fields ending in "Id" resolve through a join on the relation (categoryId → category.id),
+ * dotted fields through successive attribute lookups (category.name).
+ * Text search operations are limited to the column the V29 indexes cover
+ */
+public record CriterionShape(String field, SearchOperation operation, String relation, String[] pathParts) {
+
+    private static final String TEXT_SEARCH_FIELD = "description";
+
+    public static CriterionShape of(String field, SearchOperation operation) {
+        if ((operation == SearchOperation.CONTAINS_TEXT || operation == SearchOperation.FULL_TEXT)
+                && !TEXT_SEARCH_FIELD.equals(field)) {
+            throw new BadRequestException(operation + " is only supported on '" + TEXT_SEARCH_FIELD + "'");
+        }
+        if (field.endsWith("Id")) {
+            return new CriterionShape(field, operation, field.substring(0, field.length() - 2), null);
+        }
+        return new CriterionShape(field, operation, null, field.split("\\."));
+    }
+
+    public Path<?> resolve(Root<?> root) {
+        if (relation != null) {
+            return root.join(relation).get("id");
+        }
+        Path<?> path = root;
+        for (String part : pathParts) {
+            path = path.get(part);
+        }
+        return path;
+    }
+}
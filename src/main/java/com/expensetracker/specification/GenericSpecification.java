@@ -1,9 +1,10 @@
 package com.expensetracker.specification;
 
+import com.expensetracker.config.TextSearchFunctionContributor;
 import com.expensetracker.dto.common.SearchCriteria;
 import com.expensetracker.dto.common.SearchOperation;
 import jakarta.persistence.criteria.*;
-import lombok.AllArgsConstructor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
@@ -23,30 +24,25 @@ import java.util.List;
  * List&lt;Expense&gt; results = repository.findAll(spec);
  * </pre>
  */
-@AllArgsConstructor
 public class GenericSpecification<T> implements Specification<T> {
 
-    private SearchCriteria criteria;
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final CriterionShape shape;
+    private final SearchCriteria criteria;
+
+    public GenericSpecification(SearchCriteria criteria) {
+        this.shape = CriterionShape.of(criteria.getField(), criteria.getOperation());
+        this.criteria = criteria;
+    }
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
-        String field = criteria.getField();
-        SearchOperation operation = criteria.getOperation();
+        SearchOperation operation = shape.operation();
         Object value = criteria.getValue();
         Object valueTo = criteria.getValueTo();
 
-        jakarta.persistence.criteria.Path<?> path;
-        if (field.endsWith("Id")) {
-            String relation = field.substring(0, field.length() - 2); // categoryId → category
-            var join = root.join(relation);
-            path = join.get("id");
-        } else {
-            String[] fieldParts = field.split("\\.");
-            path = root;
-            for (String part : fieldParts) {
-                path = path.get(part);
-            }
-        }
+        jakarta.persistence.criteria.Path<?> path = shape.resolve(root);
         return switch (operation) {
             case EQUALS -> builder.equal(path, castValue(value, path.getJavaType()));
             case NOT_EQUALS -> builder.notEqual(path, castValue(value, path.getJavaType()));
@@ -86,6 +82,22 @@ public class GenericSpecification<T> implements Specification<T> {
             case STARTS_WITH ->
                     builder.like(builder.lower(path.as(String.class)), value.toString().toLowerCase() + "%");
             case ENDS_WITH -> builder.like(builder.lower(path.as(String.class)), "%" + value.toString().toLowerCase());
+            case CONTAINS_TEXT -> {
+                // lower(description) without a cast, the expression idx_transactions_description_trgm indexes
+                @SuppressWarnings("unchecked")
+                Predicate predicate = builder.like(
+                        builder.lower((Expression<String>) path),
+                        "%" + escapeLike(value.toString().toLowerCase()) + "%",
+                        LIKE_ESCAPE
+                );
+                yield predicate;
+            }
+            case FULL_TEXT -> builder.isTrue(builder.function(
+                    TextSearchFunctionContributor.FULL_TEXT_MATCH,
+                    Boolean.class,
+                    path,
+                    searchTerm(builder, value)
+            ));
             case IN -> {
                 if (value instanceof List) {
                     yield path.in((List<?>) value);
@@ -130,10 +142,39 @@ public class GenericSpecification<T> implements Specification<T> {
         };
     }
 
+    /**
+     * Relevance of a row for a CONTAINS_TEXT (word similarity) or FULL_TEXT (ts_rank) criterion, null for other operations
+     */
+    static Expression<Double> relevance(Path<?> path, SearchCriteria criteria, CriteriaBuilder builder) {
+        String function = switch (criteria.getOperation()) {
+            case CONTAINS_TEXT -> TextSearchFunctionContributor.TRIGRAM_RANK;
+            case FULL_TEXT -> TextSearchFunctionContributor.FULL_TEXT_RANK;
+            default -> null;
+        };
+        if (function == null) {
+            return null;
+        }
+        return builder.function(function, Double.class, path, searchTerm(builder, criteria.getValue()));
+    }
+
+    /**
+     * Search term as a bound parameter: a literal would be rendered into the SQL and give
+     * every term its own entry in Hibernate's criteria plan cache
+     */
+    private static Expression<String> searchTerm(CriteriaBuilder builder, Object value) {
+        return ((HibernateCriteriaBuilder) builder).value(value.toString());
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
     /**
      * Cast string value to the target field type
      */
-    private Object castValue(Object value, Class<?> targetType) {
+    static Object castValue(Object value, Class<?> targetType) {
         if (value == null || targetType.isInstance(value)) {
             return value;
         }
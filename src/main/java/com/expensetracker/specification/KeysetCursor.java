@@ -0,0 +1,50 @@
+package com.expensetracker.specification;
+
+import com.expensetracker.dto.common.SortOrder;
+import com.expensetracker.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position marker for keyset (seek) pagination
+ * Encodes the sort key and the (sortBy value, id) tuple of the last row of a page
+ * <p>
+ * Usage:
+ * <pre>
+ * String next = new KeysetCursor("date", SortOrder.DESC, "2024-05-01", 1234L).encode();
+ * KeysetCursor cursor = KeysetCursor.decode(next);
+ * </pre>
+ */
+public record KeysetCursor(String sortBy, SortOrder sortOrder, String value, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + sortOrder.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // Value goes last so it may contain the separator
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[0], SortOrder.valueOf(parts[1]), parts[3], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Ensure the cursor was issued for the same ordering as the current request
+     */
+    public void verifyMatches(String expectedSortBy, SortOrder expectedSortOrder) {
+        if (!sortBy.equals(expectedSortBy) || sortOrder != expectedSortOrder) {
+            throw new BadRequestException("Cursor does not match sortBy/sortOrder of the request");
+        }
+    }
+}
@@ -2,6 +2,12 @@ package com.expensetracker.specification;
 
 import com.expensetracker.dto.common.FilterRequest;
 import com.expensetracker.dto.common.SearchCriteria;
+import com.expensetracker.dto.common.SearchOperation;
+import com.expensetracker.dto.common.SortOrder;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -70,4 +76,53 @@ public class SpecificationBuilder {
         }
         return result;
     }
+
+    /**
+     * Combined relevance of the CONTAINS_TEXT and FULL_TEXT criteria (sum of their ranks),
+     * null when there are none
+     */
+    public static <T> Expression<Double> relevance(List<SearchCriteria> criteriaList, Root<T> root, CriteriaBuilder builder) {
+        if (criteriaList == null) {
+            return null;
+        }
+        Expression<Double> relevance = null;
+        for (SearchCriteria criteria : criteriaList) {
+            Path<?> path = CriterionShape.of(criteria.getField(), criteria.getOperation()).resolve(root);
+            Expression<Double> rank = GenericSpecification.relevance(path, criteria, builder);
+            if (rank != null) {
+                relevance = relevance == null ? rank : builder.sum(relevance, rank);
+            }
+        }
+        return relevance;
+    }
+
+    /**
+     * Build a keyset (seek) predicate selecting the rows that follow the cursor
+     * in (sortBy, id) order:
+     * <pre>
+     * sortBy &lt;= value AND (sortBy &lt; value OR (sortBy = value AND id &lt; lastId))   -- DESC
+     * </pre>
+     * The redundant outer bound gives the planner an index range start on sortBy
+     */
+    public static <T> Specification<T> keysetAfter(KeysetCursor cursor) {
+        boolean ascending = cursor.sortOrder() == SortOrder.ASC;
+        SearchOperation beyond = ascending ? SearchOperation.GREATER_THAN : SearchOperation.LESS_THAN;
+        Specification<T> afterId = new GenericSpecification<>(
+                new SearchCriteria("id", beyond, cursor.id(), null));
+
+        if ("id".equals(cursor.sortBy())) {
+            return afterId;
+        }
+
+        SearchOperation bound = ascending ? SearchOperation.GREATER_THAN_OR_EQUAL : SearchOperation.LESS_THAN_OR_EQUAL;
+
+        Specification<T> beyondValue = new GenericSpecification<>(
+                new SearchCriteria(cursor.sortBy(), beyond, cursor.value(), null));
+        Specification<T> sameValue = new GenericSpecification<>(
+                new SearchCriteria(cursor.sortBy(), SearchOperation.EQUALS, cursor.value(), null));
+        Specification<T> withinBound = new GenericSpecification<>(
+                new SearchCriteria(cursor.sortBy(), bound, cursor.value(), null));
+
+        return withinBound.and(beyondValue.or(sameValue.and(afterId)));
+    }
 }
@@ -0,0 +1,57 @@
+-- V26: Per-user, per-day, per-category rollup of transactions
+-- Statistics endpoints read from this table instead of scanning transactions,
+-- so their cost scales with the number of active days rather than rows.
+-- The table is maintained incrementally by TransactionService in the same
+-- database transaction as every transaction insert, update and delete.
+
+BEGIN;
+
+-- ============================================================================
+-- 1. ROLLUP TABLE
+-- ============================================================================
+CREATE TABLE transaction_daily_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    category_id BIGINT NOT NULL,
+    expense_amount NUMERIC(15, 2) NOT NULL DEFAULT 0.00,
+    income_amount NUMERIC(15, 2) NOT NULL DEFAULT 0.00,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_rollups_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_rollups_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE,
+    CONSTRAINT uq_rollups_user_date_category UNIQUE (user_id, date, category_id),
+    CONSTRAINT chk_rollups_count_non_negative CHECK (transaction_count >= 0)
+);
+
+-- The unique constraint index (user_id, date, category_id) serves range scans
+-- by user and date as well as the upsert conflict target
+
+CREATE INDEX idx_rollups_category ON transaction_daily_rollups(category_id);
+
+
+-- ============================================================================
+-- 2. BACKFILL FROM EXISTING TRANSACTIONS
+-- ============================================================================
+INSERT INTO transaction_daily_rollups (user_id, date, category_id, expense_amount, income_amount, transaction_count)
+SELECT
+    t.user_id,
+    t.date,
+    t.category_id,
+    COALESCE(SUM(CASE WHEN c.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0),
+    COALESCE(SUM(CASE WHEN c.type = 'INCOME' THEN t.amount ELSE 0 END), 0),
+    COUNT(*)
+FROM transactions t
+JOIN categories c ON t.category_id = c.id
+GROUP BY t.user_id, t.date, t.category_id;
+
+
+-- ============================================================================
+-- 3. DOCUMENTATION
+-- ============================================================================
+COMMENT ON TABLE transaction_daily_rollups IS 'Daily per-category transaction totals (maintained by the application)';
+COMMENT ON COLUMN transaction_daily_rollups.expense_amount IS 'Sum of EXPENSE transactions for the user, date and category';
+COMMENT ON COLUMN transaction_daily_rollups.income_amount IS 'Sum of INCOME transactions for the user, date and category';
+
+COMMIT;
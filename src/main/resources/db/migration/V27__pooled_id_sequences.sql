@@ -0,0 +1,47 @@
+-- V27: Pooled sequence allocation for entity ids
+-- Entities switch from IDENTITY to SEQUENCE generation so Hibernate can batch
+-- inserts (hibernate.jdbc.batch_size / order_inserts). Hibernate reserves 50 ids
+-- per nextval call with the pooled optimizer, so every sequence must increment
+-- by 50 and be named <table>_id_seq (see TableIdSequenceNamingStrategy).
+--
+-- Column defaults keep using the same sequences: a plain INSERT consumes a whole
+-- block of 50, so its id can never collide with a block held by the application.
+
+BEGIN;
+
+-- ============================================================================
+-- 1. RENAME, RE-INCREMENT AND RESEED THE ID SEQUENCE OF EVERY ENTITY TABLE
+-- ============================================================================
+DO $$
+DECLARE
+    entity_table TEXT;
+    current_sequence TEXT;
+    target_sequence TEXT;
+    max_id BIGINT;
+BEGIN
+    FOREACH entity_table IN ARRAY ARRAY[
+        'users', 'currencies', 'wallets', 'categories', 'transactions', 'transaction_daily_rollups'
+    ]
+    LOOP
+        current_sequence := pg_get_serial_sequence(entity_table, 'id');
+        target_sequence := entity_table || '_id_seq';
+
+        -- transactions still owns expenses_id_seq from before the V18 rename
+        IF current_sequence <> 'public.' || target_sequence THEN
+            EXECUTE format('ALTER SEQUENCE %s RENAME TO %I', current_sequence, target_sequence);
+        END IF;
+
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', target_sequence);
+
+        -- Seed from the current max id: the next nextval returns max + 50, the
+        -- upper bound of the first pooled block (max + 1 .. max + 50)
+        EXECUTE format('SELECT MAX(id) FROM %I', entity_table) INTO max_id;
+        IF max_id IS NULL THEN
+            PERFORM setval(target_sequence, 1, false);
+        ELSE
+            PERFORM setval(target_sequence, max_id, true);
+        END IF;
+    END LOOP;
+END $$;
+
+COMMIT;
@@ -0,0 +1,132 @@
+-- V28: Range-partition transactions by year of date
+-- Every list, search and export query filters on user_id and a date range, so
+-- the planner prunes to the partitions of the requested years and each index
+-- stays bounded by one year of rows. Old years can be vacuumed, detached and
+-- archived independently of the live table:
+--     ALTER TABLE transactions DETACH PARTITION transactions_y2020 CONCURRENTLY;
+--
+-- Rows outside every yearly partition land in transactions_default.
+-- ensure_transactions_partition(year) creates a missing year, moving its rows
+-- out of the default partition first; TransactionPartitionMaintenance calls it
+-- on startup and daily for the years ahead.
+--
+-- A primary key on a partitioned table must include the partition key, so the
+-- key becomes (id, date). ids remain unique through transactions_id_seq.
+
+BEGIN;
+
+-- ============================================================================
+-- 1. SET THE EXISTING TABLE ASIDE
+-- ============================================================================
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+
+-- Keep the id sequence when the old table is dropped
+ALTER SEQUENCE transactions_id_seq OWNED BY NONE;
+
+
+-- ============================================================================
+-- 2. PARTITIONED TABLE
+-- ============================================================================
+CREATE TABLE transactions (
+    id BIGINT NOT NULL DEFAULT nextval('transactions_id_seq'),
+    amount NUMERIC(15, 2) NOT NULL,
+    date DATE NOT NULL,
+    description VARCHAR(255),
+    category_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT transactions_pkey PRIMARY KEY (id, date),
+    CONSTRAINT fk_transactions_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_transactions_category FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE RESTRICT,
+    CONSTRAINT chk_transaction_amount_positive CHECK (amount > 0)
+) PARTITION BY RANGE (date);
+
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+
+-- ============================================================================
+-- 3. PARTITION MAINTENANCE FUNCTION
+-- ============================================================================
+CREATE OR REPLACE FUNCTION ensure_transactions_partition(p_year INT)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    partition_name TEXT := format('transactions_y%s', p_year);
+    range_start DATE := make_date(p_year, 1, 1);
+    range_end DATE := make_date(p_year + 1, 1, 1);
+BEGIN
+    -- Serialize concurrent callers (several application instances)
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_transactions_partition'));
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    -- Attaching fails while the default partition holds rows of the range,
+    -- so build the partition detached and move those rows into it first
+    EXECUTE format(
+        'CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+        partition_name
+    );
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM transactions_default WHERE date >= %L AND date < %L RETURNING *) '
+            'INSERT INTO %I SELECT * FROM moved',
+        range_start, range_end, partition_name
+    );
+    EXECUTE format(
+        'ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name, range_start, range_end
+    );
+
+    RETURN TRUE;
+END;
+$$;
+
+COMMENT ON FUNCTION ensure_transactions_partition(INT) IS 'Create the yearly transactions partition if missing; returns true when created';
+
+
+-- ============================================================================
+-- 4. PARTITIONS FOR EXISTING DATA AND THE NEXT YEAR
+-- ============================================================================
+SELECT ensure_transactions_partition(year::INT)
+FROM generate_series(
+    LEAST(
+        (SELECT EXTRACT(YEAR FROM MIN(date)) FROM transactions_unpartitioned),
+        EXTRACT(YEAR FROM CURRENT_DATE)
+    ),
+    EXTRACT(YEAR FROM CURRENT_DATE) + 1
+) AS year;
+
+
+-- ============================================================================
+-- 5. COPY ROWS AND DROP THE OLD TABLE
+-- ============================================================================
+INSERT INTO transactions (id, amount, date, description, category_id, user_id, created_at, updated_at)
+SELECT id, amount, date, description, category_id, user_id, created_at, updated_at
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+
+-- ============================================================================
+-- 6. INDEXES (created on every partition, present and future)
+-- ============================================================================
+CREATE INDEX idx_transactions_user_date ON transactions(user_id, date DESC);
+CREATE INDEX idx_transactions_user_date_category ON transactions(user_id, date DESC, category_id);
+CREATE INDEX idx_transactions_list_covering ON transactions(user_id, date DESC) INCLUDE (id, amount, category_id, description);
+CREATE INDEX idx_transactions_category ON transactions(category_id);
+
+
+-- ============================================================================
+-- 7. DOCUMENTATION
+-- ============================================================================
+COMMENT ON TABLE transactions IS 'User transactions (income and expenses), range-partitioned by year of date';
+COMMENT ON TABLE transactions_default IS 'Transactions dated outside every yearly partition';
+
+ANALYZE transactions;
+
+COMMIT;
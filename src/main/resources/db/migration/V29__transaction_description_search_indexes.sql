@@ -0,0 +1,38 @@
+-- V29: Index-backed text search over transactions.description
+-- LIKE, STARTS_WITH, ENDS_WITH and CONTAINS_TEXT filter on lower(description)
+-- LIKE '%...%', which no btree index can serve. A trigram GIN index on the same
+-- expression answers any such pattern (and word_similarity ranking) from the index.
+-- FULL_TEXT matches whole words through a tsvector expression index; the
+-- 'simple' configuration skips stemming and stop words, since descriptions are
+-- short and not in a single language.
+--
+-- The expressions must stay identical to the ones registered in
+-- TextSearchFunctionContributor, otherwise the planner cannot use the indexes.
+
+BEGIN;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- ============================================================================
+-- 1. TRIGRAM INDEX (substring and fuzzy matching)
+-- ============================================================================
+CREATE INDEX idx_transactions_description_trgm
+    ON transactions USING gin (lower(description) gin_trgm_ops);
+
+
+-- ============================================================================
+-- 2. FULL-TEXT INDEX (word matching)
+-- ============================================================================
+CREATE INDEX idx_transactions_description_fts
+    ON transactions USING gin (to_tsvector('simple', coalesce(description, '')));
+
+
+-- ============================================================================
+-- 3. DOCUMENTATION
+-- ============================================================================
+COMMENT ON INDEX idx_transactions_description_trgm IS 'Trigram index for LIKE/CONTAINS_TEXT description filters';
+COMMENT ON INDEX idx_transactions_description_fts IS 'Full-text index for FULL_TEXT description filters';
+
+ANALYZE transactions;
+
+COMMIT;
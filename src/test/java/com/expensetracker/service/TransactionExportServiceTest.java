@@ -0,0 +1,59 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.transaction.TransactionResponse;
+import com.expensetracker.entity.CategoryType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSV rows written by the export: RFC 4180 quoting and neutralized spreadsheet formulas
+ */
+class TransactionExportServiceTest {
+
+    @Test
+    void plainFieldsAreWrittenAsIs() throws IOException {
+        assertThat(csvRow("Weekly groceries", "Food"))
+                .isEqualTo("7,12.50,2024-03-01,Weekly groceries,3,Food,EXPENSE");
+    }
+
+    @Test
+    void fieldsWithSeparatorsOrQuotesAreQuoted() throws IOException {
+        assertThat(csvRow("Milk, eggs", "The \"good\" shop"))
+                .isEqualTo("7,12.50,2024-03-01,\"Milk, eggs\",3,\"The \"\"good\"\" shop\",EXPENSE");
+    }
+
+    @Test
+    void formulaPrefixesAreNeutralized() throws IOException {
+        assertThat(csvRow("=HYPERLINK(\"http://evil.example\",\"click\")", "+cmd"))
+                .isEqualTo("7,12.50,2024-03-01,\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"click\"\")\",3,'+cmd,EXPENSE");
+        assertThat(csvRow("-2+3", "@SUM(A1:A9)"))
+                .isEqualTo("7,12.50,2024-03-01,'-2+3,3,'@SUM(A1:A9),EXPENSE");
+        assertThat(csvRow("\tTabbed", "\rReturn"))
+                .isEqualTo("7,12.50,2024-03-01,'\tTabbed,3,\"'\rReturn\",EXPENSE");
+    }
+
+    @Test
+    void missingFieldsAreEmpty() throws IOException {
+        assertThat(csvRow(null, null)).isEqualTo("7,12.50,2024-03-01,,3,,EXPENSE");
+    }
+
+    private static String csvRow(String description, String categoryName) throws IOException {
+        StringWriter writer = new StringWriter();
+        TransactionExportService.writeCsvRow(new TransactionResponse(
+                7L,
+                new BigDecimal("12.50"),
+                LocalDate.of(2024, 3, 1),
+                description,
+                3L,
+                categoryName,
+                CategoryType.EXPENSE
+        ), writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,157 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.common.CountMode;
+import com.expensetracker.dto.common.FilterRequest;
+import com.expensetracker.dto.common.PagedResponse;
+import com.expensetracker.dto.transaction.TransactionRequest;
+import com.expensetracker.dto.transaction.TransactionResponse;
+import com.expensetracker.dto.transaction.TransactionSearchResponse;
+import com.expensetracker.entity.Category;
+import com.expensetracker.entity.CategoryType;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.Wallet;
+import com.expensetracker.exception.BadRequestException;
+import com.expensetracker.repository.CategoryRepository;
+import com.expensetracker.repository.CurrencyRepository;
+import com.expensetracker.repository.UserRepository;
+import com.expensetracker.security.UserPrincipal;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SQL issued by OFFSET transaction searches in each count mode, captured through a StatementInspector
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.expensetracker.service.TransactionSearchCountModeTest$RecordingStatementInspector")
+@Testcontainers
+class TransactionSearchCountModeTest {
+
+    private static final int TRANSACTIONS = 5;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void createTransactions() {
+        String suffix = Long.toString(System.nanoTime());
+        UserPrincipal principal = new TransactionTemplate(transactionManager).execute(status -> {
+            User user = new User("search-" + suffix + "@example.com", "search" + suffix, "password", "Search", "Test");
+            user.addWallet(new Wallet(user, currencyRepository.findAll().get(0)));
+            return UserPrincipal.create(userRepository.save(user));
+        });
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+
+        Long categoryId = new TransactionTemplate(transactionManager).execute(status -> categoryRepository.save(
+                new Category("Salary", null, CategoryType.INCOME, userRepository.getReferenceById(principal.getId()))
+        ).getId());
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            transactionService.createTransaction(new TransactionRequest(
+                    new BigDecimal("10.00"), LocalDate.now(), "Salary " + i, categoryId));
+        }
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void countModeNoneAloneIssuesNoCount() {
+        TransactionSearchResponse response = transactionService.searchTransactions(
+                FilterRequest.builder().page(0).size(2).countMode(CountMode.NONE).build());
+
+        PagedResponse<TransactionResponse> page = response.transactions();
+        assertThat(page.content()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.totalElements()).isNull();
+        assertThat(response.summary()).isNull();
+        assertThat(RecordingStatementInspector.STATEMENTS).isNotEmpty();
+        assertThat(RecordingStatementInspector.STATEMENTS).noneMatch(sql -> sql.contains("count("));
+    }
+
+    @Test
+    void countModeEstimateCountsWithoutWindowTotals() {
+        TransactionSearchResponse response = transactionService.searchTransactions(
+                FilterRequest.builder().page(0).size(2).countMode(CountMode.ESTIMATE).build());
+
+        assertThat(response.transactions().totalElements()).isEqualTo(TRANSACTIONS);
+        assertThat(response.transactions().totalElementsCapped()).isFalse();
+        assertThat(response.summary()).isNull();
+        assertThat(RecordingStatementInspector.STATEMENTS).noneMatch(sql -> sql.matches(".*\\bover ?\\(.*"));
+    }
+
+    @Test
+    void exactCountModeKeepsSummaryByDefault() {
+        TransactionSearchResponse response = transactionService.searchTransactions(
+                FilterRequest.builder().page(0).size(2).build());
+
+        assertThat(response.transactions().totalElements()).isEqualTo(TRANSACTIONS);
+        assertThat(response.summary()).isNotNull();
+        assertThat(response.summary().transactionCount()).isEqualTo(TRANSACTIONS);
+    }
+
+    @Test
+    void summaryWithNonExactCountModeIsRejected() {
+        assertThatThrownBy(() -> transactionService.searchTransactions(
+                FilterRequest.builder().countMode(CountMode.NONE).includeSummary(true).build()))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT).replaceAll("\\s+", " "));
+            return sql;
+        }
+    }
+}
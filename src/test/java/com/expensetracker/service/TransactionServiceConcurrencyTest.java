@@ -0,0 +1,235 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.transaction.TransactionRequest;
+import com.expensetracker.entity.Category;
+import com.expensetracker.entity.CategoryType;
+import com.expensetracker.entity.User;
+import com.expensetracker.entity.Wallet;
+import com.expensetracker.exception.BadRequestException;
+import com.expensetracker.repository.CategoryRepository;
+import com.expensetracker.repository.CurrencyRepository;
+import com.expensetracker.repository.UserRepository;
+import com.expensetracker.repository.WalletRepository;
+import com.expensetracker.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Balance changes of concurrent transaction writes against PostgreSQL
+ * The wallet balance must always equal the sum of the user's ledger, and no interleaving
+ * of writes may take it below zero
+ */
+@SpringBootTest
+@Testcontainers
+class TransactionServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserPrincipal principal;
+    private Long incomeCategoryId;
+    private Long expenseCategoryId;
+
+    @BeforeEach
+    void createUser() {
+        String suffix = Long.toString(System.nanoTime());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = new User("wallet-" + suffix + "@example.com", "wallet" + suffix, "password", "Wallet", "Test");
+            user.addWallet(new Wallet(user, currencyRepository.findAll().get(0)));
+            user = userRepository.save(user);
+
+            incomeCategoryId = categoryRepository.save(new Category("Salary", null, CategoryType.INCOME, user)).getId();
+            expenseCategoryId = categoryRepository.save(new Category("Groceries", null, CategoryType.EXPENSE, user)).getId();
+            principal = UserPrincipal.create(user);
+        });
+        authenticate();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentExpensesNeverOverdraw() throws Exception {
+        transactionService.createTransaction(income("100.00"));
+
+        // 200 expenses of 1.00 against a balance of 100.00: exactly half must be rejected
+        List<Callable<Boolean>> writes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            writes.add(() -> created(() -> transactionService.createTransaction(expense("1.00"))));
+        }
+        List<Boolean> results = runConcurrently(writes);
+
+        assertThat(results).filteredOn(created -> created).hasSize(100);
+        assertThat(results).filteredOn(created -> !created).hasSize(100);
+        assertThat(balance()).isEqualByComparingTo("0.00");
+        assertThat(balance()).isEqualByComparingTo(ledgerSum());
+    }
+
+    @Test
+    void concurrentIncomeAndExpensesKeepBalanceEqualToLedger() throws Exception {
+        transactionService.createTransaction(income("10.00"));
+
+        List<Callable<Boolean>> writes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            writes.add(() -> created(() -> transactionService.createTransaction(income("2.50"))));
+            writes.add(() -> created(() -> transactionService.createTransaction(expense("3.00"))));
+        }
+        List<Boolean> results = runConcurrently(writes);
+
+        // Some expenses may be rejected depending on the interleaving, never an income
+        assertThat(results).filteredOn(created -> created).hasSizeGreaterThanOrEqualTo(100);
+        assertThat(balance()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+        assertThat(balance()).isEqualByComparingTo(ledgerSum());
+    }
+
+    @Test
+    void deletingSpentIncomeIsRejectedAsBadRequest() {
+        Long incomeId = transactionService.createTransaction(income("50.00")).id();
+        transactionService.createTransaction(expense("40.00"));
+
+        assertThatThrownBy(() -> transactionService.deleteTransaction(incomeId))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Current balance: 10.00");
+
+        assertThat(balance()).isEqualByComparingTo("10.00");
+        assertThat(balance()).isEqualByComparingTo(ledgerSum());
+    }
+
+    @Test
+    void updatingSpentIncomeToALowerAmountIsRejectedAsBadRequest() {
+        Long incomeId = transactionService.createTransaction(income("50.00")).id();
+        transactionService.createTransaction(expense("40.00"));
+
+        assertThatThrownBy(() -> transactionService.updateTransaction(incomeId,
+                new TransactionRequest(new BigDecimal("5.00"), LocalDate.now(), "Salary", incomeCategoryId)))
+                .isInstanceOf(BadRequestException.class);
+
+        assertThat(balance()).isEqualByComparingTo("10.00");
+        assertThat(balance()).isEqualByComparingTo(ledgerSum());
+    }
+
+    private List<Boolean> runConcurrently(List<Callable<Boolean>> writes) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Callable<Boolean> write : writes) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    authenticate();
+                    try {
+                        return write.call();
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                // Anything but an insufficient-balance rejection fails the test here
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean created(Runnable write) {
+        try {
+            write.run();
+            return true;
+        } catch (BadRequestException ex) {
+            assertThat(ex).hasMessageStartingWith("Insufficient balance");
+            return false;
+        }
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+        );
+    }
+
+    private TransactionRequest income(String amount) {
+        return new TransactionRequest(new BigDecimal(amount), LocalDate.now(), "Salary", incomeCategoryId);
+    }
+
+    private TransactionRequest expense(String amount) {
+        return new TransactionRequest(new BigDecimal(amount), LocalDate.now(), "Groceries", expenseCategoryId);
+    }
+
+    private BigDecimal balance() {
+        return walletRepository.findAmountByUserId(principal.getId()).orElseThrow();
+    }
+
+    private BigDecimal ledgerSum() {
+        return jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(CASE WHEN c.type = 'INCOME' THEN t.amount ELSE -t.amount END), 0)
+                FROM transactions t
+                JOIN categories c ON c.id = t.category_id
+                WHERE t.user_id = ?
+                """, BigDecimal.class, principal.getId());
+    }
+}
@@ -0,0 +1,170 @@
+package com.expensetracker.service.maintenance;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations against PostgreSQL and checks the V28 partition layout,
+ * TransactionPartitionMaintenance and partition pruning of the transaction queries
+ */
+@Testcontainers
+class TransactionPartitionMaintenanceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()
+        );
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void migrationPartitionsTransactionsByYear() {
+        int currentYear = Year.now().getValue();
+
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT relkind::TEXT FROM pg_class WHERE relname = 'transactions'", String.class
+        );
+        assertThat(kind).isEqualTo("p");
+        assertThat(partitions()).contains(
+                "transactions_default",
+                "transactions_y" + currentYear,
+                "transactions_y" + (currentYear + 1)
+        );
+
+        List<String> primaryKey = jdbcTemplate.queryForList("""
+                SELECT a.attname FROM pg_index i
+                JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY(i.indkey)
+                WHERE i.indrelid = 'transactions'::regclass AND i.indisprimary
+                ORDER BY array_position(i.indkey, a.attnum)
+                """, String.class);
+        assertThat(primaryKey).containsExactly("id", "date");
+    }
+
+    @Test
+    void maintenanceCreatesUpcomingPartitionsAndMovesRowsOutOfDefault() {
+        int currentYear = Year.now().getValue();
+        int yearsAhead = 4;
+        LocalDate date = LocalDate.of(currentYear + yearsAhead, 6, 15);
+
+        // No partition covers the year yet, so the row lands in the default partition
+        long transactionId = insertTransaction(date);
+        assertThat(partitionOf(transactionId)).isEqualTo("transactions_default");
+
+        TransactionPartitionMaintenance maintenance = new TransactionPartitionMaintenance(jdbcTemplate, yearsAhead);
+        maintenance.ensureUpcomingPartitions();
+        // Idempotent: a second run (or another instance) creates nothing
+        maintenance.ensureUpcomingPartitions();
+
+        for (int year = currentYear; year <= currentYear + yearsAhead; year++) {
+            assertThat(partitions()).contains("transactions_y" + year);
+        }
+        assertThat(partitionOf(transactionId)).isEqualTo("transactions_y" + (currentYear + yearsAhead));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions_default WHERE id = ?", Long.class, transactionId
+        )).isZero();
+
+        // Indexes of the parent are created on the new partition as well
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = ?", String.class,
+                "transactions_y" + (currentYear + yearsAhead)
+        )).hasSizeGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void dateRangeQueriesScanOnlyTheirYear() {
+        int currentYear = Year.now().getValue();
+
+        List<String> plan = explain(
+                "SELECT id, amount FROM transactions WHERE user_id = 1 AND date BETWEEN ? AND ?",
+                LocalDate.of(currentYear, 1, 1), LocalDate.of(currentYear, 3, 31)
+        );
+
+        assertThat(scannedPartitions(plan)).containsExactly("transactions_y" + currentYear);
+    }
+
+    @Test
+    void updatesAndDeletesKeyedOnIdAndDateScanOnePartition() {
+        LocalDate date = LocalDate.of(Year.now().getValue(), 1, 10);
+
+        // Shape of the statements Hibernate issues for Transaction (date is its @PartitionKey)
+        List<String> update = explain(
+                "UPDATE transactions SET amount = 1 WHERE id = ? AND date = ?", 1L, date
+        );
+        List<String> delete = explain(
+                "DELETE FROM transactions WHERE id = ? AND date = ?", 1L, date
+        );
+
+        assertThat(scannedPartitions(update)).containsExactly("transactions_y" + date.getYear());
+        assertThat(scannedPartitions(delete)).containsExactly("transactions_y" + date.getYear());
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'transactions'::regclass",
+                String.class
+        );
+    }
+
+    private String partitionOf(long transactionId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::TEXT FROM transactions WHERE id = ?", String.class, transactionId
+        );
+    }
+
+    private long insertTransaction(LocalDate date) {
+        String suffix = Long.toString(System.nanoTime());
+        Long userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, username, password) VALUES (?, ?, 'x') RETURNING id",
+                Long.class, "partition-" + suffix + "@example.com", "partition-" + suffix
+        );
+        Long categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO categories (name, type, user_id) VALUES ('Groceries', 'EXPENSE', ?) RETURNING id",
+                Long.class, userId
+        );
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO transactions (amount, date, category_id, user_id) VALUES (10.00, ?, ?, ?) RETURNING id",
+                Long.class, date, categoryId, userId
+        );
+    }
+
+    /**
+     * Plan of a statement with literal parameters; partitions pruned at plan time do not appear in it
+     */
+    private List<String> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+    }
+
+    private static List<String> scannedPartitions(List<String> plan) {
+        return plan.stream()
+                .flatMap(line -> Arrays.stream(line.split("\\s+")))
+                .filter(token -> token.matches("transactions_(y\\d{4}|default)"))
+                .distinct()
+                .toList();
+    }
+}